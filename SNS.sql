@@ -169,6 +169,235 @@ VALUES (2, 1, 'LIKE'),
     (1, 5, 'LIKE');
 -- 5번 글: 좋아요 1개
 
+-- =====================================================
+-- [마이그레이션] 반응 카운터 비정규화 (Like_count / Dislike_count)
+-- 피드 조회 시 글마다 REACTION COUNT(*) 서브쿼리를 돌리지 않도록
+-- POST 에 카운터를 두고 toggleReaction 트랜잭션 안에서 함께 갱신한다.
+-- 기존 DB 에는 이 블록만 실행하면 된다.
+-- =====================================================
+ALTER TABLE POST
+ADD COLUMN Like_count INT NOT NULL DEFAULT 0,
+ADD COLUMN Dislike_count INT NOT NULL DEFAULT 0;
+
+-- 백필: 지금까지 쌓인 REACTION 으로 카운터 채우기 (Update_time 은 건드리지 않음)
+UPDATE POST p
+    LEFT JOIN (
+        SELECT
+            Post_id,
+            SUM(Type = 'LIKE') AS likes,
+            SUM(Type = 'DISLIKE') AS dislikes
+        FROM REACTION
+        GROUP BY
+            Post_id
+    ) r ON r.Post_id = p.Post_id
+SET
+    p.Like_count = COALESCE(r.likes, 0),
+    p.Dislike_count = COALESCE(r.dislikes, 0),
+    p.Update_time = p.Update_time;
+
+-- =====================================================
+-- [마이그레이션] 쓰기 경로를 한 번의 왕복으로
+-- - 사용자명 중복은 UNIQUE 키로 막는다 (가입 전 중복 조회 제거)
+-- - toggle_reaction: 조건부 DELETE / UPSERT + 카운터 갱신을 한 트랜잭션에서 처리하고
+--   새 상태와 카운터를 돌려준다 (SELECT 후 DELETE/UPDATE/INSERT 하던 경쟁 조건 제거)
+-- - create_post: INSERT 후 화면에 필요한 행(PostView)을 바로 돌려준다
+-- =====================================================
+ALTER TABLE USER ADD UNIQUE KEY uk_user_name (Name);
+
+DROP PROCEDURE IF EXISTS toggle_reaction;
+
+DROP PROCEDURE IF EXISTS create_post;
+
+DELIMITER $$
+
+CREATE PROCEDURE toggle_reaction(IN p_user INT, IN p_post INT, IN p_type VARCHAR(10))
+BEGIN
+    DECLARE v_prev VARCHAR(10) DEFAULT NULL;
+    DECLARE v_next VARCHAR(10);
+    DECLARE v_rows INT;
+    DECLARE EXIT HANDLER FOR SQLEXCEPTION
+    BEGIN
+        ROLLBACK;
+        RESIGNAL;
+    END;
+
+    START TRANSACTION;
+    -- 같은 반응이 있으면 취소
+    DELETE FROM REACTION WHERE User_id = p_user AND Post_id = p_post AND Type = p_type;
+    SET v_rows = ROW_COUNT();
+    IF v_rows > 0 THEN
+        SET v_prev = p_type;
+        SET v_next = 'NONE';
+    ELSE
+        -- 없으면 추가(1), 반대 반응이면 변경(2)
+        INSERT INTO REACTION (User_id, Post_id, Type) VALUES (p_user, p_post, p_type)
+        ON DUPLICATE KEY UPDATE Type = p_type;
+        SET v_rows = ROW_COUNT();
+        SET v_next = p_type;
+        IF v_rows = 2 THEN
+            SET v_prev = IF(p_type = 'LIKE', 'DISLIKE', 'LIKE');
+        END IF;
+    END IF;
+
+    UPDATE POST
+    SET Like_count = Like_count + (v_next = 'LIKE') - (IFNULL(v_prev, '') = 'LIKE'),
+        Dislike_count = Dislike_count + (v_next = 'DISLIKE') - (IFNULL(v_prev, '') = 'DISLIKE'),
+        Update_time = Update_time
+    WHERE Post_id = p_post;
+    COMMIT;
+
+    SELECT v_next AS myState, Like_count AS likeCount, Dislike_count AS dislikeCount
+    FROM POST WHERE Post_id = p_post;
+END$$
+
+CREATE PROCEDURE create_post(IN p_user INT, IN p_path VARCHAR(255), IN p_name VARCHAR(255), IN p_text TEXT)
+BEGIN
+    INSERT INTO POST (User_id, File_path, File_name, Post_context, Upload_time)
+    VALUES (p_user, p_path, p_name, p_text, NOW());
+
+    SELECT p.Post_id, p.User_id AS authorId, u.Name AS authorName,
+           p.Post_context,
+           p.File_path, p.File_name,
+           DATE_FORMAT(p.Upload_time, '%Y-%m-%d %H:%i') AS uploadTime,
+           p.Like_count AS likeCount, p.Dislike_count AS dislikeCount,
+           'NONE' AS myState
+    FROM POST p
+    JOIN USER u ON p.User_id = u.User_id
+    WHERE p.Post_id = LAST_INSERT_ID();
+END$$
+
+DELIMITER ;
+
+-- =====================================================
+-- [마이그레이션] 댓글 키셋 페이지
+-- - 글별 댓글을 Comment_id 내림차순으로 limit 개씩 읽도록 (Post_id, Comment_id) 인덱스
+--   (FK 용으로 자동 생성된 Post_id 인덱스 대신 사용됨)
+-- - add_comment: INSERT 후 화면에 필요한 행(CommentView)을 바로 돌려준다
+-- =====================================================
+ALTER TABLE COMMENT ADD INDEX idx_comment_post (Post_id, Comment_id);
+
+DROP PROCEDURE IF EXISTS add_comment;
+
+DELIMITER $$
+
+CREATE PROCEDURE add_comment(IN p_user INT, IN p_post INT, IN p_text TEXT)
+BEGIN
+    INSERT INTO COMMENT (User_id, Post_id, Comment, Upload_time)
+    VALUES (p_user, p_post, p_text, NOW());
+
+    SELECT c.Comment_id, u.Name, c.Comment,
+           DATE_FORMAT(c.Upload_time, '%Y-%m-%d %H:%i') AS time
+    FROM COMMENT c
+    JOIN USER u ON c.User_id = u.User_id
+    WHERE c.Comment_id = LAST_INSERT_ID();
+END$$
+
+DELIMITER ;
+
+-- =====================================================
+-- [마이그레이션] 댓글 수 비정규화 (Comment_count)
+-- 피드 목록에 댓글 수를 보여 주되 글마다 COUNT(*) 하지 않도록 POST 에 카운터를 두고
+-- add_comment 트랜잭션 안에서 함께 올린다 (댓글 삭제 기능은 아직 없음, 글 삭제 시 댓글은 CASCADE).
+-- 어긋난 값은 MySnsPort.reconcileCommentCounts 가 주기적으로 고친다.
+-- =====================================================
+ALTER TABLE POST ADD COLUMN Comment_count INT NOT NULL DEFAULT 0;
+
+-- 백필 (Update_time 은 건드리지 않음)
+UPDATE POST p
+    LEFT JOIN (
+        SELECT Post_id, COUNT(*) AS comments
+        FROM COMMENT
+        GROUP BY
+            Post_id
+    ) c ON c.Post_id = p.Post_id
+SET
+    p.Comment_count = COALESCE(c.comments, 0),
+    p.Update_time = p.Update_time;
+
+DROP PROCEDURE IF EXISTS add_comment;
+
+DROP PROCEDURE IF EXISTS create_post;
+
+DELIMITER $$
+
+CREATE PROCEDURE add_comment(IN p_user INT, IN p_post INT, IN p_text TEXT)
+BEGIN
+    DECLARE v_id INT;
+    DECLARE EXIT HANDLER FOR SQLEXCEPTION
+    BEGIN
+        ROLLBACK;
+        RESIGNAL;
+    END;
+
+    START TRANSACTION;
+    INSERT INTO COMMENT (User_id, Post_id, Comment, Upload_time)
+    VALUES (p_user, p_post, p_text, NOW());
+    SET v_id = LAST_INSERT_ID();
+
+    UPDATE POST
+    SET Comment_count = Comment_count + 1,
+        Update_time = Update_time
+    WHERE Post_id = p_post;
+    COMMIT;
+
+    SELECT c.Comment_id, u.Name, c.Comment,
+           DATE_FORMAT(c.Upload_time, '%Y-%m-%d %H:%i') AS time
+    FROM COMMENT c
+    JOIN USER u ON c.User_id = u.User_id
+    WHERE c.Comment_id = v_id;
+END$$
+
+CREATE PROCEDURE create_post(IN p_user INT, IN p_path VARCHAR(255), IN p_name VARCHAR(255), IN p_text TEXT)
+BEGIN
+    INSERT INTO POST (User_id, File_path, File_name, Post_context, Upload_time)
+    VALUES (p_user, p_path, p_name, p_text, NOW());
+
+    SELECT p.Post_id, p.User_id AS authorId, u.Name AS authorName,
+           p.Post_context,
+           p.File_path, p.File_name,
+           DATE_FORMAT(p.Upload_time, '%Y-%m-%d %H:%i') AS uploadTime,
+           p.Like_count AS likeCount, p.Dislike_count AS dislikeCount,
+           p.Comment_count AS commentCount,
+           'NONE' AS myState
+    FROM POST p
+    JOIN USER u ON p.User_id = u.User_id
+    WHERE p.Post_id = LAST_INSERT_ID();
+END$$
+
+DELIMITER ;
+
+-- =====================================================
+-- [마이그레이션] 피드 변경분 조회 (새로고침/폴링)
+-- - Change_time: 행의 어떤 값이든 바뀌면 자동으로 갱신되는 변경 시각 (ms 단위).
+--   Update_time 은 "본문 수정 시각"이라 카운터 갱신 때 일부러 그대로 두므로 (Update_time = Update_time)
+--   좋아요/댓글 수 변화까지 잡으려면 별도 열이 필요하다.
+-- - POST_TOMBSTONE: 지워진 글 id 를 트리거로 남긴다 (변경분에 삭제도 실어 보내기 위해).
+--   USER 삭제에 딸린 CASCADE 삭제는 트리거가 돌지 않는다 (사용자 삭제 기능은 아직 없음).
+--   오래된 묘비는 MySnsPort.purgeTombstones 가 지우고, 그보다 오래된 기준점은 전체 재조회로 처리한다.
+-- =====================================================
+ALTER TABLE POST
+ADD COLUMN Change_time DATETIME(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3) ON UPDATE CURRENT_TIMESTAMP(3),
+ADD INDEX idx_post_change (Change_time);
+
+CREATE TABLE POST_TOMBSTONE (
+    Post_id INT NOT NULL PRIMARY KEY,
+    Deleted_time DATETIME(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+    INDEX idx_tombstone_time (Deleted_time)
+);
+
+DROP TRIGGER IF EXISTS post_tombstone;
+
+DELIMITER $$
+
+CREATE TRIGGER post_tombstone AFTER DELETE ON POST
+FOR EACH ROW
+BEGIN
+    INSERT INTO POST_TOMBSTONE (Post_id) VALUES (OLD.Post_id)
+    ON DUPLICATE KEY UPDATE Deleted_time = CURRENT_TIMESTAMP(3);
+END$$
+
+DELIMITER ;
+
 -- [검색 기능] 키워드로 본문, 파일명, 작성자 찾기
 SELECT p.Post_id, u.Name AS Author, p.Post_context, p.File_name
 FROM POST p
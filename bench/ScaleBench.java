@@ -0,0 +1,92 @@
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.Random;
+
+import ui.ImageUtils;
+
+/**
+ * ImageUtils.resize 와 getScaledInstance(SCALE_SMOOTH) 비교 벤치마크.
+ * <p>
+ * 빌드 도구가 없는 프로젝트라 JMH 대신 같은 방식(워밍업 → 측정 반복 → 결과 소비)으로 직접 잰다. getScaledInstance 는
+ * 지연 Image 라서 화면에 그릴 때처럼 BufferedImage 에 그려서 실제 스케일 비용까지 포함시킨다.
+ *
+ * <pre>
+ * javac -encoding UTF-8 -d out $(find src bench -name '*.java')
+ * java -Djava.awt.headless=true -cp out ScaleBench [warmup=5] [iterations=15]
+ * </pre>
+ */
+public class ScaleBench {
+
+    // 원본 크기 (가로 x 세로) → 상세 화면 폭 540 으로 축소
+    private static final int[][] SOURCES = { { 800, 600 }, { 1920, 1080 }, { 4000, 3000 }, { 6000, 4000 } };
+    private static final int TARGET_W = 540;
+
+    private static long sink; // 결과를 소비해서 JIT 가 계산을 지우지 못하게
+
+    public static void main(String[] args) {
+        int warmup = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 15;
+
+        System.out.printf("%-12s %-20s %10s %10s %10s%n", "source", "method", "min(ms)", "median(ms)", "max(ms)");
+        for (int[] s : SOURCES) {
+            BufferedImage src = sample(s[0], s[1]);
+            int w = TARGET_W;
+            int h = (int) Math.round((double) s[1] / s[0] * TARGET_W);
+            String label = s[0] + "x" + s[1];
+            report(label, "getScaledInstance", measure(warmup, iterations, () -> smooth(src, w, h)));
+            report(label, "ImageUtils.resize", measure(warmup, iterations, () -> ImageUtils.resize(src, w, h)));
+        }
+        if (sink == 42)
+            System.out.println();
+    }
+
+    /** getScaledInstance 결과를 실제로 그려서 픽셀을 만든다 (화면 paint 와 같은 비용) */
+    private static BufferedImage smooth(BufferedImage src, int w, int h) {
+        Image scaled = src.getScaledInstance(w, h, Image.SCALE_SMOOTH);
+        BufferedImage out = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = out.createGraphics();
+        g.drawImage(scaled, 0, 0, null);
+        g.dispose();
+        return out;
+    }
+
+    private interface Scaler {
+        BufferedImage run();
+    }
+
+    private static double[] measure(int warmup, int iterations, Scaler scaler) {
+        for (int i = 0; i < warmup; i++)
+            sink += scaler.run().getRGB(0, 0);
+        double[] ms = new double[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long t0 = System.nanoTime();
+            BufferedImage out = scaler.run();
+            ms[i] = (System.nanoTime() - t0) / 1_000_000.0;
+            sink += out.getRGB(out.getWidth() / 2, out.getHeight() / 2);
+        }
+        Arrays.sort(ms);
+        return ms;
+    }
+
+    private static void report(String source, String method, double[] ms) {
+        System.out.printf("%-12s %-20s %10.2f %10.2f %10.2f%n", source, method, ms[0], ms[ms.length / 2],
+                ms[ms.length - 1]);
+    }
+
+    /** 사진 비슷한 테스트 이미지 (그라데이션 + 잡음, 고정 시드) */
+    private static BufferedImage sample(int w, int h) {
+        BufferedImage img = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = img.createGraphics();
+        g.setPaint(new GradientPaint(0, 0, new Color(30, 60, 120), w, h, new Color(240, 200, 90)));
+        g.fillRect(0, 0, w, h);
+        g.dispose();
+        Random rnd = new Random(42);
+        for (int i = 0; i < w * h / 20; i++)
+            img.setRGB(rnd.nextInt(w), rnd.nextInt(h), rnd.nextInt());
+        return img;
+    }
+}
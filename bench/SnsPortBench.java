@@ -0,0 +1,199 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import service.db.ConnectionPool;
+import service.port.CachingSnsPort;
+import service.port.MemorySnsPort;
+import service.port.MetricsSnsPort;
+import service.port.MySnsPort;
+import service.port.SnsPort;
+import tools.PortSeedSink;
+import tools.SeedGenerator;
+
+/**
+ * SnsPort 데이터 경로 벤치마크 (listRecent / search / toggleReaction / listComments / addComment / createPost).
+ * <p>
+ * 빌드 도구가 없는 프로젝트라 JMH 대신 JMH 의 Throughput + SampleTime 모드를 흉내 낸다: 연산마다 워밍업 → 고정 시간 동안
+ * 여러 스레드로 반복 호출하고, 모든 호출의 지연을 모아서 처리량과 백분위수를 낸다. 기본은 메모리 대역(MemorySnsPort)에 시드
+ * 데이터를 넣고 돌리며, -Dbench.port=mysql 이면 실제 DB 를 잰다 (스키마/쿼리 변경 전후 비교용).
+ *
+ * <pre>
+ * java -cp out:lib/mysql-connector-j-9.4.0.jar SnsPortBench
+ *   -Dbench.port=memory|mysql      (기본 memory)
+ *   -Dbench.posts=10000 -Dbench.users=1000 -Dbench.seed=42   메모리 대역 시드 규모
+ *   -Dbench.threads=4 -Dbench.warmup=2 -Dbench.seconds=5    스레드 수, 워밍업/측정 시간(초)
+ *   -Dbench.ops=listRecent,search                           일부 연산만
+ *   -Dbench.cache=true                                      CachingSnsPort 로 감싸서 측정
+ *   -Dbench.metrics=true                                    MetricsSnsPort 로 감싸서 측정 (계측 비용 확인, 끝에 보고서)
+ *   -Dbench.url=... -Dbench.user=... -Dbench.password=...   mysql 접속 정보
+ *   -Dbench.stmtCache=64                                    커넥션당 문장 캐시 크기 (0 이면 끔, 전후 비교용)
+ * </pre>
+ */
+public class SnsPortBench {
+
+    /** 시드 글 본문에 섞인 주제어 (검색 키워드) */
+    static final String[] WORDS = SeedGenerator.TOPICS;
+
+    /** 시드 데이터 범위 (연산 인자를 고르는 데 사용) */
+    record Fixture(int users, int maxPostId) {
+    }
+
+    interface Op {
+        void run(SnsPort port, Random rnd, Fixture fx);
+    }
+
+    private static final Map<String, Op> OPS = new LinkedHashMap<>();
+    static {
+        OPS.put("listRecent", (port, rnd, fx) -> {
+            // 대부분 첫 페이지, 일부는 깊은 페이지 (키셋이라 비용이 같아야 함)
+            int before = rnd.nextInt(5) == 0 ? 1 + rnd.nextInt(fx.maxPostId) : 0;
+            port.listRecentPage(user(rnd, fx), before, 30);
+        });
+        OPS.put("search", (port, rnd, fx) -> port.searchPage(user(rnd, fx), WORDS[rnd.nextInt(WORDS.length)], 0, 30));
+        OPS.put("toggleReaction", (port, rnd, fx) -> port.toggleReaction(user(rnd, fx), post(rnd, fx),
+                rnd.nextInt(4) == 0 ? "DISLIKE" : "LIKE"));
+        OPS.put("listComments", (port, rnd, fx) -> port.listCommentsPage(post(rnd, fx), 0, 30));
+        OPS.put("addComment", (port, rnd, fx) -> port.addComment(user(rnd, fx), post(rnd, fx),
+                WORDS[rnd.nextInt(WORDS.length)] + " 좋네요"));
+        OPS.put("createPost", (port, rnd, fx) -> port.createPost(user(rnd, fx), null, null,
+                "벤치마크 " + WORDS[rnd.nextInt(WORDS.length)] + " " + rnd.nextInt(1000)));
+    }
+
+    public static void main(String[] args) throws Exception {
+        String kind = System.getProperty("bench.port", "memory");
+        int threads = Integer.getInteger("bench.threads", 4);
+        int warmup = Integer.getInteger("bench.warmup", 2);
+        int seconds = Integer.getInteger("bench.seconds", 5);
+        long seed = Long.getLong("bench.seed", 42);
+        List<String> ops = Arrays.asList(System.getProperty("bench.ops", String.join(",", OPS.keySet())).split(","));
+
+        ConnectionPool pool = null;
+        SnsPort port;
+        Fixture fx;
+        if (kind.equals("mysql")) {
+            pool = new ConnectionPool(new ConnectionPool.Config(
+                    System.getProperty("bench.url",
+                            "jdbc:mysql://localhost:3306/sns?serverTimezone=Asia/Seoul&useServerPrepStmts=true"),
+                    System.getProperty("bench.user", "root"), System.getProperty("bench.password", "12345"))
+                    .minIdle(threads).maxSize(threads).statementCacheSize(Integer.getInteger("bench.stmtCache", 64)));
+            port = new MySnsPort(pool);
+            List<SnsPort.PostView> latest = port.listRecentPage(1, 0, 1);
+            fx = new Fixture(Integer.getInteger("bench.users", 5), latest.isEmpty() ? 1 : latest.get(0).postId());
+        } else {
+            MemorySnsPort mem = new MemorySnsPort();
+            long t0 = System.nanoTime();
+            fx = seed(mem, Integer.getInteger("bench.users", 1000), Integer.getInteger("bench.posts", 10_000), seed);
+            System.out.printf("seeded %d users / %d posts in %.1fs%n", fx.users, fx.maxPostId,
+                    (System.nanoTime() - t0) / 1e9);
+            port = mem;
+        }
+        if (Boolean.getBoolean("bench.cache"))
+            port = new CachingSnsPort(port);
+        MetricsSnsPort metrics = null;
+        if (Boolean.getBoolean("bench.metrics"))
+            port = metrics = new MetricsSnsPort(port, 0);
+
+        System.out.printf("port=%s%s%s threads=%d warmup=%ds measure=%ds%n", kind,
+                Boolean.getBoolean("bench.cache") ? "+cache" : "", metrics != null ? "+metrics" : "", threads, warmup,
+                seconds);
+        System.out.printf("%-16s %12s %10s %10s %10s %10s %10s%n", "op", "ops/s", "p50(us)", "p90(us)", "p99(us)",
+                "p99.9(us)", "max(us)");
+        try {
+            for (String name : ops) {
+                Op op = OPS.get(name.trim());
+                if (op == null)
+                    throw new IllegalArgumentException("unknown op: " + name);
+                run(port, fx, op, threads, warmup, seed); // 워밍업 (결과 버림)
+                report(name.trim(), run(port, fx, op, threads, seconds, seed + 1));
+            }
+            if (metrics != null)
+                System.out.print(metrics.report());
+        } finally {
+            if (pool != null) {
+                System.out.println(pool.stats());
+                pool.close();
+            }
+        }
+    }
+
+    /** 측정 결과: 전체 호출 수, 측정 시간, 정렬된 지연(ns) */
+    private record Result(long calls, double seconds, long[] sortedNanos) {
+    }
+
+    private static Result run(SnsPort port, Fixture fx, Op op, int threads, int seconds, long seed)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        long[][] samples = new long[threads][];
+        int[] counts = new int[threads];
+        List<Thread> workers = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int t = 0; t < threads; t++) {
+            int idx = t;
+            Thread th = new Thread(() -> {
+                Random rnd = new Random(seed * 31 + idx);
+                long[] buf = new long[1 << 16];
+                int n = 0;
+                while (System.nanoTime() < deadline) {
+                    long t0 = System.nanoTime();
+                    op.run(port, rnd, fx);
+                    long dt = System.nanoTime() - t0;
+                    if (n == buf.length)
+                        buf = Arrays.copyOf(buf, n * 2);
+                    buf[n++] = dt;
+                }
+                samples[idx] = buf;
+                counts[idx] = n;
+            }, "bench-" + t);
+            workers.add(th);
+            th.start();
+        }
+        for (Thread th : workers)
+            th.join();
+        double elapsed = (System.nanoTime() - start) / 1e9;
+
+        int total = 0;
+        for (int c : counts)
+            total += c;
+        long[] all = new long[total];
+        int pos = 0;
+        for (int t = 0; t < threads; t++) {
+            System.arraycopy(samples[t], 0, all, pos, counts[t]);
+            pos += counts[t];
+        }
+        Arrays.sort(all);
+        return new Result(total, elapsed, all);
+    }
+
+    private static void report(String name, Result r) {
+        System.out.printf("%-16s %12.0f %10.1f %10.1f %10.1f %10.1f %10.1f%n", name, r.calls / r.seconds,
+                pct(r.sortedNanos, 0.50), pct(r.sortedNanos, 0.90), pct(r.sortedNanos, 0.99),
+                pct(r.sortedNanos, 0.999), r.sortedNanos.length == 0 ? 0 : r.sortedNanos[r.sortedNanos.length - 1] / 1e3);
+    }
+
+    private static double pct(long[] sorted, double p) {
+        if (sorted.length == 0)
+            return 0;
+        int i = (int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1);
+        return sorted[Math.max(0, i)] / 1e3;
+    }
+
+    /** 메모리 대역 시드: SeedGenerator 의 치우친 분포 그대로 (고정 시드라 실행마다 같은 데이터) */
+    static Fixture seed(SnsPort port, int users, int posts, long seed) {
+        SeedGenerator.Summary s = new SeedGenerator(new SeedGenerator.Config().users(users).posts(posts).seed(seed))
+                .generate(new PortSeedSink(port), 1, 1);
+        System.out.println("seed: " + s);
+        return new Fixture(users, posts);
+    }
+
+    static int user(Random rnd, Fixture fx) {
+        return 1 + rnd.nextInt(fx.users);
+    }
+
+    static int post(Random rnd, Fixture fx) {
+        return 1 + rnd.nextInt(fx.maxPostId);
+    }
+}
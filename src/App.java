@@ -1,13 +1,74 @@
 import javax.swing.*;
+import service.db.ConnectionPool;
+import service.port.AsyncSnsPort;
+import service.port.CachingSnsPort;
+import service.port.MetricsSnsPort;
 import service.port.MySnsPort;
 import service.port.SnsPort;
+import ui.EdtMonitor;
+import ui.ImageCache;
 import ui.LoginFrame;
 
-import java.sql.Connection;
-import java.sql.DriverManager;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 public class App {
     public static void main(String[] args) {
+        // ✅ 1️⃣ MySQL 커넥션 풀 생성 (EDT 밖에서 워밍업까지 끝내 둔다)
+        ConnectionPool pool;
+        try {
+            pool = new ConnectionPool(new ConnectionPool.Config(
+                    // useServerPrepStmts: 풀의 문장 캐시와 함께 서버 쪽 준비도 커넥션당 한 번만
+                    "jdbc:mysql://localhost:3306/sns?serverTimezone=Asia/Seoul&useServerPrepStmts=true",
+                    "root", // ← MySQL 아이디
+                    "12345" // ← MySQL 비밀번호
+            ).minIdle(2).maxSize(8));
+        } catch (Exception e) {
+            e.printStackTrace();
+            SwingUtilities.invokeLater(() -> JOptionPane.showMessageDialog(null, "DB 연결 실패: " + e.getMessage()));
+            return;
+        }
+        // EDT 에서 200ms 이상 걸린 이벤트는 스택 표본을 떠서 코드 경로별로 모은다 (홈 화면 "진단" 버튼)
+        EdtMonitor.install(200);
+
+        MySnsPort myPort = new MySnsPort(pool);
+        // DB 호출 계측 (캐시 아래에 두어 실제로 DB 까지 간 호출만 잰다, 200ms 이상은 인자와 함께 로그)
+        MetricsSnsPort meteredPort = new MetricsSnsPort(myPort, 200);
+        // 피드/댓글 읽기 캐시 (이 포트를 통한 쓰기는 즉시 반영, 다른 클라이언트 변경은 TTL 후 반영)
+        CachingSnsPort cachedPort = new CachingSnsPort(meteredPort);
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            // 풀 크기 / 캐시 크기 조정용 통계
+            System.out.println(pool.stats());
+            System.out.println(cachedPort.stats());
+            System.out.print(meteredPort.report());
+            System.out.println(ImageCache.shared().stats());
+            pool.close();
+        }, "db-pool-shutdown"));
+
+        // 반응/댓글 카운터(Like_count/Dislike_count/Comment_count) 보정 작업: 30분마다 어긋난 값만 재계산
+        ScheduledExecutorService jobs = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "sns-background-jobs");
+            t.setDaemon(true);
+            return t;
+        });
+        jobs.scheduleWithFixedDelay(() -> {
+            int fixed = myPort.reconcileReactionCounts();
+            if (fixed > 0)
+                System.out.println("[reconcile] 반응 카운터 보정: " + fixed + "건");
+            int fixedComments = myPort.reconcileCommentCounts();
+            if (fixedComments > 0)
+                System.out.println("[reconcile] 댓글 카운터 보정: " + fixedComments + "건");
+        }, 1, 30, TimeUnit.MINUTES);
+
+        // 피드 변경분용 묘비(POST_TOMBSTONE) 중 보관 기간이 지난 것 정리: 하루에 한 번
+        jobs.scheduleWithFixedDelay(() -> {
+            int purged = myPort.purgeTombstones();
+            if (purged > 0)
+                System.out.println("[purge] 글 삭제 묘비 정리: " + purged + "건");
+        }, 5, 24 * 60, TimeUnit.MINUTES);
+
         SwingUtilities.invokeLater(() -> {
             try {
                 // 윈도우 룩앤필 (선택)
@@ -15,23 +76,15 @@ public class App {
             } catch (Exception ignored) {
             }
 
-            try {
-                // ✅ 1️⃣ MySQL DB 연결
-                Connection conn = DriverManager.getConnection(
-                        "jdbc:mysql://localhost:3306/sns?serverTimezone=Asia/Seoul", "root", // ← MySQL 아이디
-                        "12345" // ← MySQL 비밀번호
-                );
-
-                // ✅ 2️⃣ DB 버전 포트(MySnsPort) 사용
-                SnsPort port = new MySnsPort(conn);
+            // ✅ 2️⃣ DB 버전 포트(MySnsPort) 사용
+            SnsPort port = cachedPort;
 
-                // ✅ 3️⃣ 로그인 프레임 실행
-                new LoginFrame(port).setVisible(true);
+            // ✅ 3️⃣ UI 는 비동기 파사드로만 포트를 호출 (DB 작업은 작업 스레드, 결과는 EDT)
+            AsyncSnsPort async = new AsyncSnsPort(port, AsyncSnsPort.defaultWorker(pool.maxSize()),
+                    SwingUtilities::invokeLater);
 
-            } catch (Exception e) {
-                e.printStackTrace();
-                JOptionPane.showMessageDialog(null, "DB 연결 실패: " + e.getMessage());
-            }
+            // ✅ 4️⃣ 로그인 프레임 실행
+            new LoginFrame(async).setVisible(true);
         });
     }
 }
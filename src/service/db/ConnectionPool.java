@@ -0,0 +1,652 @@
+package service.db;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * JDBC 커넥션 풀.
+ * <p>
+ * MySnsPort 는 메서드 호출마다 {@link #getConnection()} 으로 빌려 쓰고 try-with-resources 로 반납한다. 반환되는
+ * Connection 은 프록시라서 close() 하면 실제로 닫히지 않고 풀로 돌아간다.
+ * <ul>
+ * <li>워밍업: 생성 시 minIdle 개를 미리 연결 (DB 가 꺼져 있으면 여기서 바로 실패)</li>
+ * <li>검증: 일정 시간 이상 놀았던 커넥션은 빌려주기 전에 isValid() 로 확인 (MySQL wait_timeout 대비)</li>
+ * <li>유휴 정리: idleTimeout 지난 여분 커넥션, maxLifetime 지난 커넥션은 백그라운드에서 닫음</li>
+ * <li>누수 감지: leakThreshold 이상 반납되지 않은 커넥션은 빌려간 위치의 스택을 출력</li>
+ * <li>문장 캐시: 커넥션마다 prepareStatement(sql) / prepareCall(sql) 결과를 SQL 문자열 기준으로 LRU 보관해서, 같은 SQL 을
+ * 다시 준비하면 이미 준비된 문장을 돌려준다. 문장의 close() 는 파라미터와 결과만 정리하고 실제로 닫지 않는다. URL 에
+ * useServerPrepStmts=true 를 주면 서버 쪽 준비(파싱/계획)도 커넥션당 한 번으로 끝난다.</li>
+ * </ul>
+ */
+public class ConnectionPool implements AutoCloseable {
+
+    /** 풀 설정 (기본값은 데스크톱 클라이언트 1대 기준) */
+    public static class Config {
+        private final String url;
+        private final String user;
+        private final String password;
+        private int minIdle = 2;
+        private int maxSize = 10;
+        private long borrowTimeoutMs = 5_000;
+        private long idleTimeoutMs = 10 * 60_000;
+        private long maxLifetimeMs = 30 * 60_000; // MySQL wait_timeout(기본 8시간)보다 충분히 짧게
+        private long validationIntervalMs = 30_000;
+        private int validationTimeoutSec = 2;
+        private long leakThresholdMs = 30_000;
+        private long housekeepingPeriodMs = 30_000;
+        private int statementCacheSize = 64; // 커넥션당, 0 이면 끔
+
+        public Config(String url, String user, String password) {
+            this.url = url;
+            this.user = user;
+            this.password = password;
+        }
+
+        public Config minIdle(int v) {
+            this.minIdle = v;
+            return this;
+        }
+
+        public Config maxSize(int v) {
+            this.maxSize = v;
+            return this;
+        }
+
+        public Config borrowTimeoutMs(long v) {
+            this.borrowTimeoutMs = v;
+            return this;
+        }
+
+        public Config idleTimeoutMs(long v) {
+            this.idleTimeoutMs = v;
+            return this;
+        }
+
+        public Config maxLifetimeMs(long v) {
+            this.maxLifetimeMs = v;
+            return this;
+        }
+
+        public Config validationIntervalMs(long v) {
+            this.validationIntervalMs = v;
+            return this;
+        }
+
+        public Config leakThresholdMs(long v) {
+            this.leakThresholdMs = v;
+            return this;
+        }
+
+        public Config housekeepingPeriodMs(long v) {
+            this.housekeepingPeriodMs = v;
+            return this;
+        }
+
+        public Config statementCacheSize(int v) {
+            this.statementCacheSize = v;
+            return this;
+        }
+    }
+
+    /** 풀 상태 스냅샷 (부하 상황에서 크기 조정할 때 참고) */
+    public record Stats(int total, int active, int idle, int waiting, long borrows, long created, long closed,
+            long timeouts, long leaks, double avgWaitMs, double maxWaitMs, long statementHits,
+            long statementMisses) {
+        @Override
+        public String toString() {
+            return String.format(
+                    "pool[total=%d active=%d idle=%d waiting=%d] borrows=%d created=%d closed=%d timeouts=%d leaks=%d wait(avg=%.2fms max=%.2fms) stmt(hit=%d miss=%d)",
+                    total, active, idle, waiting, borrows, created, closed, timeouts, leaks, avgWaitMs, maxWaitMs,
+                    statementHits, statementMisses);
+        }
+    }
+
+    // 문장 캐시 키: 같은 SQL 이라도 prepareCall / 생성 키 반환 여부가 다르면 다른 문장
+    private record StatementKey(String sql, boolean call, int autoGeneratedKeys) {
+    }
+
+    /** 실제 커넥션 + 관리용 메타데이터 */
+    private static final class Slot {
+        Connection raw;
+        long createdAt;
+        long lastUsedAt;
+        long borrowedAt;
+        Throwable borrowSite;
+        boolean leakReported;
+        boolean broken;
+        Map<StatementKey, PreparedStatement> statements; // 접근 순서 LRU (대여한 스레드만 사용)
+        final Set<PreparedStatement> statementsInUse = Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    private final Config cfg;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+    private final Deque<Slot> idle = new ArrayDeque<>(); // LIFO: 최근에 쓴 커넥션부터 재사용
+    private final Set<Slot> active = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService housekeeper;
+    private int total; // idle + active + 연결 중인 슬롯 (lock 보호)
+    private int waiting; // lock 보호
+    private boolean closed; // lock 보호
+
+    private final LongAdder borrows = new LongAdder();
+    private final LongAdder created = new LongAdder();
+    private final LongAdder closedCount = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder leaks = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final LongAdder statementHits = new LongAdder();
+    private final LongAdder statementMisses = new LongAdder();
+
+    public ConnectionPool(Config cfg) throws SQLException {
+        if (cfg.maxSize < 1 || cfg.minIdle < 0 || cfg.minIdle > cfg.maxSize)
+            throw new IllegalArgumentException("잘못된 풀 크기: minIdle=" + cfg.minIdle + ", maxSize=" + cfg.maxSize);
+        this.cfg = cfg;
+
+        // 워밍업: 첫 화면에서 연결 지연이 생기지 않도록 미리 열어 둔다
+        List<Slot> warm = new ArrayList<>();
+        try {
+            for (int i = 0; i < cfg.minIdle; i++)
+                warm.add(openSlot());
+        } catch (SQLException e) {
+            for (Slot s : warm)
+                closeQuietly(s);
+            throw e;
+        }
+        lock.lock();
+        try {
+            idle.addAll(warm);
+            total = warm.size();
+        } finally {
+            lock.unlock();
+        }
+
+        housekeeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "db-pool-housekeeper");
+            t.setDaemon(true);
+            return t;
+        });
+        housekeeper.scheduleWithFixedDelay(this::housekeep, cfg.housekeepingPeriodMs, cfg.housekeepingPeriodMs,
+                TimeUnit.MILLISECONDS);
+    }
+
+    public int maxSize() {
+        return cfg.maxSize;
+    }
+
+    /** 커넥션 대여. 반드시 close() 로 반납할 것 (try-with-resources 권장) */
+    public Connection getConnection() throws SQLException {
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(cfg.borrowTimeoutMs);
+        while (true) {
+            Slot s = acquire(deadline);
+            if (s.raw == null) {
+                try {
+                    fill(s);
+                } catch (SQLException e) {
+                    forget(s);
+                    throw e;
+                }
+            } else if (!isUsable(s)) {
+                forget(s);
+                closeQuietly(s);
+                continue;
+            }
+
+            long now = System.currentTimeMillis();
+            s.borrowedAt = now;
+            s.lastUsedAt = now;
+            s.leakReported = false;
+            s.broken = false;
+            s.borrowSite = cfg.leakThresholdMs > 0 ? new Throwable("커넥션 대여 위치") : null;
+            active.add(s);
+
+            long waited = System.nanoTime() - start;
+            borrows.increment();
+            waitNanos.add(waited);
+            maxWaitNanos.accumulateAndGet(waited, Math::max);
+            return wrap(s);
+        }
+    }
+
+    /** 현재 풀 상태 */
+    public Stats stats() {
+        int t, i, w;
+        lock.lock();
+        try {
+            t = total;
+            i = idle.size();
+            w = waiting;
+        } finally {
+            lock.unlock();
+        }
+        long n = borrows.sum();
+        double avg = n == 0 ? 0 : waitNanos.sum() / 1e6 / n;
+        return new Stats(t, active.size(), i, w, n, created.sum(), closedCount.sum(), timeouts.sum(), leaks.sum(), avg,
+                maxWaitNanos.get() / 1e6, statementHits.sum(), statementMisses.sum());
+    }
+
+    @Override
+    public void close() {
+        List<Slot> drain;
+        lock.lock();
+        try {
+            if (closed)
+                return;
+            closed = true;
+            drain = new ArrayList<>(idle);
+            idle.clear();
+            total -= drain.size();
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        housekeeper.shutdownNow();
+        for (Slot s : drain)
+            closeQuietly(s);
+        // 대여 중인 커넥션은 반납 시점에 닫힌다 (giveBack 에서 closed 확인)
+    }
+
+    /* ========== 대여/반납 ========== */
+
+    /** idle 슬롯을 꺼내거나, 여유가 있으면 빈 슬롯(raw == null)을 예약한다 */
+    private Slot acquire(long deadline) throws SQLException {
+        lock.lock();
+        try {
+            waiting++;
+            try {
+                while (true) {
+                    if (closed)
+                        throw new SQLException("커넥션 풀이 닫혔습니다.");
+                    Slot s = idle.pollFirst();
+                    if (s != null)
+                        return s;
+                    if (total < cfg.maxSize) {
+                        total++;
+                        return new Slot();
+                    }
+                    long remain = deadline - System.nanoTime();
+                    if (remain <= 0) {
+                        timeouts.increment();
+                        throw new SQLTransientConnectionException(
+                                "커넥션 대기 시간 초과 (" + cfg.borrowTimeoutMs + "ms, " + stats0() + ")");
+                    }
+                    available.awaitNanos(remain);
+                }
+            } finally {
+                waiting--;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("커넥션 대기 중 인터럽트", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void giveBack(Slot s) {
+        active.remove(s);
+        s.borrowSite = null;
+        s.lastUsedAt = System.currentTimeMillis();
+        if (!s.statementsInUse.isEmpty()) {
+            // 닫지 않고 반납한 문장도 캐시로 되돌린다
+            for (PreparedStatement ps : List.copyOf(s.statementsInUse))
+                release(s, ps);
+        }
+
+        boolean reusable = !s.broken;
+        if (reusable) {
+            try {
+                // 다음 사용자가 트랜잭션 상태를 물려받지 않도록 정리
+                if (!s.raw.getAutoCommit()) {
+                    s.raw.rollback();
+                    s.raw.setAutoCommit(true);
+                }
+            } catch (SQLException e) {
+                reusable = false;
+            }
+        }
+
+        lock.lock();
+        try {
+            if (reusable && !closed) {
+                idle.addFirst(s);
+                available.signal();
+                return;
+            }
+            total--;
+            available.signal();
+        } finally {
+            lock.unlock();
+        }
+        closeQuietly(s);
+    }
+
+    /** 슬롯을 풀 집계에서 제외 (실제 close 는 호출자가) */
+    private void forget(Slot s) {
+        lock.lock();
+        try {
+            total--;
+            available.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isUsable(Slot s) {
+        long now = System.currentTimeMillis();
+        if (cfg.maxLifetimeMs > 0 && now - s.createdAt > cfg.maxLifetimeMs)
+            return false;
+        if (now - s.lastUsedAt < cfg.validationIntervalMs)
+            return true;
+        try {
+            return s.raw.isValid(cfg.validationTimeoutSec);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    /* ========== 백그라운드 정리 ========== */
+
+    private void housekeep() {
+        try {
+            long now = System.currentTimeMillis();
+            List<Slot> evict = new ArrayList<>();
+            int missing;
+            lock.lock();
+            try {
+                if (closed)
+                    return;
+                // 오래된 것부터(덱의 뒤쪽) 검사
+                var it = idle.descendingIterator();
+                while (it.hasNext()) {
+                    Slot s = it.next();
+                    boolean expired = cfg.maxLifetimeMs > 0 && now - s.createdAt > cfg.maxLifetimeMs;
+                    boolean surplus = total - evict.size() > cfg.minIdle && now - s.lastUsedAt > cfg.idleTimeoutMs;
+                    if (expired || surplus) {
+                        it.remove();
+                        evict.add(s);
+                    }
+                }
+                total -= evict.size();
+                missing = Math.max(0, Math.min(cfg.minIdle - idle.size(), cfg.maxSize - total));
+                total += missing; // 채울 자리를 먼저 예약
+            } finally {
+                lock.unlock();
+            }
+            for (Slot s : evict)
+                closeQuietly(s);
+
+            // minIdle 유지 (끊긴 뒤 다시 워밍업)
+            for (int i = 0; i < missing; i++) {
+                Slot s = new Slot();
+                try {
+                    fill(s);
+                } catch (SQLException e) {
+                    for (int j = i; j < missing; j++)
+                        forget(s);
+                    break;
+                }
+                lock.lock();
+                try {
+                    if (closed) {
+                        total--;
+                    } else {
+                        idle.addLast(s);
+                        available.signal();
+                        s = null;
+                    }
+                } finally {
+                    lock.unlock();
+                }
+                if (s != null)
+                    closeQuietly(s);
+            }
+
+            detectLeaks(now);
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private void detectLeaks(long now) {
+        if (cfg.leakThresholdMs <= 0)
+            return;
+        for (Slot s : active) {
+            Throwable site = s.borrowSite;
+            if (!s.leakReported && site != null && now - s.borrowedAt > cfg.leakThresholdMs) {
+                s.leakReported = true;
+                leaks.increment();
+                System.err.println("[ConnectionPool] 커넥션이 " + (now - s.borrowedAt) + "ms 동안 반납되지 않았습니다 (누수 의심)");
+                site.printStackTrace();
+            }
+        }
+    }
+
+    /* ========== 물리 커넥션 ========== */
+
+    private Slot openSlot() throws SQLException {
+        Slot s = new Slot();
+        fill(s);
+        return s;
+    }
+
+    private void fill(Slot s) throws SQLException {
+        s.raw = DriverManager.getConnection(cfg.url, cfg.user, cfg.password);
+        s.statements = null; // 이전 물리 커넥션의 문장은 함께 닫혔음
+        s.statementsInUse.clear();
+        s.createdAt = System.currentTimeMillis();
+        s.lastUsedAt = s.createdAt;
+        created.increment();
+    }
+
+    private void closeQuietly(Slot s) {
+        if (s.raw == null)
+            return;
+        try {
+            s.raw.close();
+        } catch (SQLException ignored) {
+        }
+        closedCount.increment();
+    }
+
+    private String stats0() {
+        return "total=" + total + ", idle=" + idle.size() + ", waiting=" + waiting;
+    }
+
+    /** close() 를 가로채서 풀로 반납하는 Connection 프록시 */
+    private Connection wrap(Slot s) {
+        InvocationHandler h = new InvocationHandler() {
+            private boolean returned;
+
+            @Override
+            public Object invoke(Object proxy, Method m, Object[] args) throws Throwable {
+                switch (m.getName()) {
+                case "close":
+                    if (!returned) {
+                        returned = true;
+                        giveBack(s);
+                    }
+                    return null;
+                case "isClosed":
+                    return returned || s.raw.isClosed();
+                case "unwrap":
+                case "isWrapperFor":
+                    break;
+                case "prepareStatement":
+                case "prepareCall":
+                    if (returned)
+                        throw new SQLException("이미 풀에 반납된 커넥션입니다.");
+                    if (cfg.statementCacheSize > 0 && cacheable(m, args)) {
+                        int keys = args.length == 2 ? (Integer) args[1] : Statement.NO_GENERATED_KEYS;
+                        return cachedStatement(s, new StatementKey((String) args[0], m.getName().equals("prepareCall"),
+                                keys));
+                    }
+                    break;
+                case "toString":
+                    return "Pooled" + s.raw;
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                default:
+                    if (returned)
+                        throw new SQLException("이미 풀에 반납된 커넥션입니다.");
+                }
+                try {
+                    return m.invoke(s.raw, args);
+                } catch (InvocationTargetException e) {
+                    Throwable cause = e.getCause();
+                    // SQLState 08xxx = 연결 오류 → 반납 시 폐기
+                    if (cause instanceof SQLException se && se.getSQLState() != null
+                            && se.getSQLState().startsWith("08"))
+                        s.broken = true;
+                    throw cause;
+                }
+            }
+        };
+        return (Connection) Proxy.newProxyInstance(ConnectionPool.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, h);
+    }
+
+    /* ========== 문장 캐시 ========== */
+
+    /** prepareStatement(sql), prepareStatement(sql, autoGeneratedKeys), prepareCall(sql) 만 캐시 */
+    private static boolean cacheable(Method m, Object[] args) {
+        Class<?>[] types = m.getParameterTypes();
+        if (types.length == 1)
+            return true;
+        return types.length == 2 && m.getName().equals("prepareStatement") && types[1] == int.class;
+    }
+
+    private PreparedStatement cachedStatement(Slot s, StatementKey key) throws SQLException {
+        if (s.statements == null) {
+            int max = cfg.statementCacheSize;
+            s.statements = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<StatementKey, PreparedStatement> eldest) {
+                    if (size() <= max || s.statementsInUse.contains(eldest.getValue()))
+                        return false;
+                    closeStatementQuietly(eldest.getValue());
+                    return true;
+                }
+            };
+        }
+        PreparedStatement raw = s.statements.get(key);
+        if (raw != null && !s.statementsInUse.contains(raw) && !raw.isClosed()) {
+            statementHits.increment();
+        } else {
+            statementMisses.increment();
+            PreparedStatement fresh = prepareRaw(s.raw, key);
+            if (raw != null && s.statementsInUse.contains(raw))
+                return wrapStatement(s, fresh, false); // 같은 SQL 을 동시에 두 번 여는 경우: 두 번째는 캐시하지 않음
+            s.statements.put(key, fresh);
+            raw = fresh;
+        }
+        s.statementsInUse.add(raw);
+        return wrapStatement(s, raw, true);
+    }
+
+    private static PreparedStatement prepareRaw(Connection raw, StatementKey key) throws SQLException {
+        if (key.call())
+            return raw.prepareCall(key.sql());
+        return key.autoGeneratedKeys() == Statement.NO_GENERATED_KEYS ? raw.prepareStatement(key.sql())
+                : raw.prepareStatement(key.sql(), key.autoGeneratedKeys());
+    }
+
+    /** close() 를 가로채서 캐시로 돌려놓는 문장 프록시 */
+    private PreparedStatement wrapStatement(Slot s, PreparedStatement raw, boolean cached) {
+        InvocationHandler h = new InvocationHandler() {
+            private boolean returned;
+
+            @Override
+            public Object invoke(Object proxy, Method m, Object[] args) throws Throwable {
+                switch (m.getName()) {
+                case "close":
+                    if (!returned) {
+                        returned = true;
+                        if (cached)
+                            release(s, raw);
+                        else
+                            raw.close();
+                    }
+                    return null;
+                case "isClosed":
+                    return returned || raw.isClosed();
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return "Cached" + raw;
+                default:
+                    if (returned)
+                        throw new SQLException("이미 닫힌 문장입니다.");
+                }
+                try {
+                    return m.invoke(raw, args);
+                } catch (InvocationTargetException e) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof SQLException se && se.getSQLState() != null
+                            && se.getSQLState().startsWith("08"))
+                        s.broken = true;
+                    throw cause;
+                }
+            }
+        };
+        Class<?> type = raw instanceof CallableStatement ? CallableStatement.class : PreparedStatement.class;
+        return (PreparedStatement) Proxy.newProxyInstance(ConnectionPool.class.getClassLoader(),
+                new Class<?>[] { type }, h);
+    }
+
+    /** 다음 사용자를 위해 남은 결과와 파라미터를 정리하고 캐시로 되돌린다 (정리에 실패하면 버림) */
+    private void release(Slot s, PreparedStatement raw) {
+        s.statementsInUse.remove(raw);
+        try {
+            ResultSet rs = raw.getResultSet();
+            if (rs != null)
+                rs.close();
+            // 프로시저 호출은 결과가 여러 개일 수 있으므로 끝까지 비운다
+            while (raw.getMoreResults(Statement.CLOSE_ALL_RESULTS) || raw.getUpdateCount() != -1)
+                ;
+            raw.clearParameters();
+        } catch (SQLException e) {
+            s.statements.values().remove(raw);
+            closeStatementQuietly(raw);
+        }
+    }
+
+    private static void closeStatementQuietly(Statement st) {
+        try {
+            st.close();
+        } catch (SQLException ignored) {
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package service.port;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * SnsPort 비동기 파사드.
+ * <p>
+ * 블로킹 JDBC 호출은 작업 스레드에서 실행하고, 결과(성공/실패 모두)는 callbackExecutor 로 넘겨서 완료시킨다. UI 에서는
+ * callbackExecutor 로 {@code SwingUtilities::invokeLater} 를 주면 thenAccept/whenComplete 콜백이 항상 EDT 에서 돌기
+ * 때문에 그 안에서 바로 Swing 컴포넌트를 만져도 된다.
+ */
+public class AsyncSnsPort {
+
+    private final SnsPort port;
+    private final ExecutorService worker;
+    private final Executor callbackExecutor;
+
+    public AsyncSnsPort(SnsPort port, ExecutorService worker, Executor callbackExecutor) {
+        this.port = port;
+        this.worker = worker;
+        this.callbackExecutor = callbackExecutor;
+    }
+
+    /**
+     * 기본 작업 스레드: 가상 스레드를 쓸 수 있는 JDK(21+)면 요청마다 가상 스레드, 아니면 커넥션 풀 크기만큼의 데몬 스레드. 풀보다
+     * 스레드가 많아 봐야 커넥션 대기만 하므로 동시성은 결국 커넥션 풀이 정한다.
+     */
+    public static ExecutorService defaultWorker(int parallelism) {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            AtomicInteger seq = new AtomicInteger();
+            return Executors.newFixedThreadPool(parallelism, r -> {
+                Thread t = new Thread(r, "sns-io-" + seq.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+        }
+    }
+
+    /** 임의의 포트 호출 묶음을 작업 스레드에서 실행 */
+    public <T> CompletableFuture<T> call(Function<SnsPort, T> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        CompletableFuture.supplyAsync(() -> task.apply(port), worker).whenComplete((v, ex) -> callbackExecutor
+                .execute(() -> {
+                    if (ex != null)
+                        result.completeExceptionally(unwrap(ex));
+                    else
+                        result.complete(v);
+                }));
+        return result;
+    }
+
+    /** 실패 원인 메시지 (CompletionException 등 포장을 벗긴 뒤) */
+    public static String errorMessage(Throwable ex) {
+        Throwable t = unwrap(ex);
+        String msg = t.getMessage();
+        if (t.getCause() != null && t.getCause().getMessage() != null)
+            msg = msg + " (" + t.getCause().getMessage() + ")";
+        return msg == null ? t.toString() : msg;
+    }
+
+    private static Throwable unwrap(Throwable ex) {
+        while ((ex instanceof CompletionException || ex instanceof ExecutionException) && ex.getCause() != null)
+            ex = ex.getCause();
+        return ex;
+    }
+
+    /* ========== 포트 메서드 대응 ========== */
+
+    public CompletableFuture<SnsPort.UserView> login(String username, String password) {
+        return call(p -> p.login(username, password));
+    }
+
+    public CompletableFuture<SnsPort.UserView> loginByEmail(String email, String password) {
+        return call(p -> p.loginByEmail(email, password));
+    }
+
+    public CompletableFuture<SnsPort.UserView> register(String username, String email, String password) {
+        return call(p -> p.register(username, email, password));
+    }
+
+    public CompletableFuture<List<SnsPort.PostView>> listRecentPage(int requesterId, int beforePostId, int limit) {
+        return call(p -> p.listRecentPage(requesterId, beforePostId, limit));
+    }
+
+    public CompletableFuture<List<SnsPort.PostView>> searchPage(int requesterId, String keyword, int beforePostId,
+            int limit) {
+        return call(p -> p.searchPage(requesterId, keyword, beforePostId, limit));
+    }
+
+    public CompletableFuture<SnsPort.FeedDelta> changesSince(int requesterId, long since, int limit) {
+        return call(p -> p.changesSince(requesterId, since, limit));
+    }
+
+    public CompletableFuture<SnsPort.ReactionView> toggleReaction(int userId, int postId, String type) {
+        return call(p -> p.toggleReaction(userId, postId, type));
+    }
+
+    public CompletableFuture<SnsPort.PostView> createPost(int userId, String filePath, String fileName,
+            String text) {
+        return call(p -> p.createPost(userId, filePath, fileName, text));
+    }
+
+    public CompletableFuture<List<SnsPort.CommentView>> listCommentsPage(int postId, int beforeCommentId,
+            int limit) {
+        return call(p -> p.listCommentsPage(postId, beforeCommentId, limit));
+    }
+
+    public CompletableFuture<SnsPort.CommentView> addComment(int userId, int postId, String content) {
+        return call(p -> p.addComment(userId, postId, content));
+    }
+
+    public CompletableFuture<Boolean> deletePost(int userId, int postId) {
+        return call(p -> p.deletePost(userId, postId));
+    }
+
+    public CompletableFuture<Boolean> updatePost(int userId, int postId, String newContent) {
+        return call(p -> p.updatePost(userId, postId, newContent));
+    }
+}
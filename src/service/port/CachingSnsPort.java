@@ -0,0 +1,356 @@
+package service.port;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+
+/**
+ * 읽기 캐시 데코레이터. 아무 SnsPort 나 감싸서 피드/검색 페이지와 댓글 목록을 TTL + LRU 로 캐시한다.
+ * <p>
+ * 페이지 캐시에는 모든 사용자가 공유하는 글 데이터만 두고(myState 제외), 사용자별 반응 상태는 (사용자, 글) 단위로 따로
+ * 둔다. 그래서 여러 사용자가 같은 첫 페이지를 새로고침해도 글 데이터는 한 번만 조회되고, 이 포트를 통한 쓰기는 영향을 받는
+ * 항목만 무효화/수정한다. 다른 클라이언트의 쓰기는 TTL 이 지나거나 changesSince 변경분이 이 포트를 지나가야 보인다.
+ * 변경분은 캐시된 페이지를 그 자리에서 고치므로, 기준점 이후 변경분을 먼저 받고 첫 페이지를 다시 읽는 새로고침은 캐시에서
+ * 끝난다. 변경분으로 따라잡을 수 없을 때(reset, 새 기준점 포함)는 그 뒤 첫 피드 페이지 한 번만 원본에서 다시 채우고, 나머지
+ * 페이지는 TTL 로만 갱신된다.
+ * <p>
+ * 읽기가 원본을 조회하는 사이에 쓰기가 끝나면, 조회 결과는 그 쓰기 이전 값일 수 있다. 쓰기마다 세대(writeEpoch)를 올리고
+ * 읽기는 시작할 때의 세대가 그대로일 때만 결과를 캐시에 넣으므로, 쓰기가 고친 캐시를 옛 값으로 덮어쓰지 않는다.
+ */
+public class CachingSnsPort implements SnsPort {
+
+    /** 캐시 적중률 (튜닝용) */
+    public record Stats(long feedHits, long feedMisses, long commentHits, long commentMisses, int pages,
+            int viewerStates, int commentLists, long evictions, long expirations) {
+        public double feedHitRatio() {
+            long total = feedHits + feedMisses;
+            return total == 0 ? 0 : (double) feedHits / total;
+        }
+
+        public double commentHitRatio() {
+            long total = commentHits + commentMisses;
+            return total == 0 ? 0 : (double) commentHits / total;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                    "cache[feed hit=%d miss=%d (%.1f%%), comment hit=%d miss=%d (%.1f%%), pages=%d states=%d comments=%d, evicted=%d expired=%d]",
+                    feedHits, feedMisses, feedHitRatio() * 100, commentHits, commentMisses, commentHitRatio() * 100,
+                    pages, viewerStates, commentLists, evictions, expirations);
+        }
+    }
+
+    // keyword == null 이면 일반 피드
+    private record PageKey(String keyword, int beforePostId, int limit) {
+    }
+
+    private record StateKey(int viewerId, int postId) {
+    }
+
+    private record CommentKey(int postId, int limit) {
+    }
+
+    private final SnsPort delegate;
+    private final TtlLruCache<PageKey, List<PostView>> pages; // myState 를 뺀 공유 데이터
+    private final TtlLruCache<StateKey, String> viewerStates;
+    private final TtlLruCache<CommentKey, List<CommentView>> comments; // 글마다 첫 페이지만
+
+    // 쓰기 세대: 캐시 수정(쓰기)과 읽기 결과 채우기를 서로 배타로 묶는다
+    private final Object epochLock = new Object();
+    private long writeEpoch; // epochLock
+    private boolean firstPageStale; // epochLock: reset 변경분 뒤로 첫 피드 페이지를 아직 원본에서 다시 읽지 않음
+
+    private final LongAdder feedHits = new LongAdder();
+    private final LongAdder feedMisses = new LongAdder();
+    private final LongAdder commentHits = new LongAdder();
+    private final LongAdder commentMisses = new LongAdder();
+
+    public CachingSnsPort(SnsPort delegate) {
+        this(delegate, 200, 30_000);
+    }
+
+    /**
+     * @param maxPages 페이지/댓글 목록 캐시 최대 개수 (사용자별 상태는 페이지당 글 수만큼 더 둔다)
+     * @param ttlMillis 항목 유효 시간
+     */
+    public CachingSnsPort(SnsPort delegate, int maxPages, long ttlMillis) {
+        this.delegate = delegate;
+        this.pages = new TtlLruCache<>(maxPages, ttlMillis);
+        this.viewerStates = new TtlLruCache<>(maxPages * 50, ttlMillis);
+        this.comments = new TtlLruCache<>(maxPages, ttlMillis);
+    }
+
+    public Stats stats() {
+        return new Stats(feedHits.sum(), feedMisses.sum(), commentHits.sum(), commentMisses.sum(), pages.size(),
+                viewerStates.size(), comments.size(),
+                pages.evictions() + viewerStates.evictions() + comments.evictions(),
+                pages.expirations() + viewerStates.expirations() + comments.expirations());
+    }
+
+    /** 전체 비우기 (다른 클라이언트 변경을 바로 보고 싶을 때) */
+    public void invalidateAll() {
+        afterWrite(() -> {
+            pages.clear();
+            viewerStates.clear();
+            comments.clear();
+        });
+    }
+
+    /* ========== Auth: 그대로 위임 ========== */
+
+    @Override
+    public UserView login(String username, String password) {
+        return delegate.login(username, password);
+    }
+
+    @Override
+    public UserView loginByEmail(String email, String password) {
+        return delegate.loginByEmail(email, password);
+    }
+
+    @Override
+    public UserView register(String username, String email, String password) {
+        return delegate.register(username, email, password);
+    }
+
+    @Override
+    public UserView register(String username, String password) {
+        return delegate.register(username, password);
+    }
+
+    /* ========== Feed ========== */
+
+    @Override
+    public List<PostView> listRecentPage(int requesterId, int beforePostId, int limit) {
+        return cachedPage(requesterId, new PageKey(null, beforePostId, limit));
+    }
+
+    @Override
+    public List<PostView> searchPage(int requesterId, String keyword, int beforePostId, int limit) {
+        return cachedPage(requesterId, new PageKey(keyword, beforePostId, limit));
+    }
+
+    /** 변경분은 캐시하지 않고, 지나가는 결과로 캐시된 페이지를 고친다 (다른 클라이언트의 쓰기를 TTL 전에 반영) */
+    @Override
+    public FeedDelta changesSince(int requesterId, long since, int limit) {
+        FeedDelta delta = delegate.changesSince(requesterId, since, limit);
+        if (delta.reset()) {
+            // 새 기준점 또는 따라잡지 못할 만큼 바뀜: 기준점 이전의 변경은 이후 변경분으로 오지 않으므로, 이어서 읽을
+            // 첫 페이지만은 캐시를 건너뛴다 (읽는 중인 채우기도 세대가 바뀌어 버려짐)
+            afterWrite(() -> firstPageStale = true);
+            return delta;
+        }
+        if (delta.changed().isEmpty() && delta.deletedIds().isEmpty())
+            return delta;
+        afterWrite(() -> applyDelta(requesterId, delta));
+        return delta;
+    }
+
+    private void applyDelta(int requesterId, FeedDelta delta) {
+        int newest = 0;
+        for (PostView p : delta.changed())
+            newest = Math.max(newest, p.postId());
+        int newestChanged = newest;
+        // 지워진 글이 든 페이지, 새 글이 끼어야 할 첫 페이지, 구성이 달라질 수 있는 검색 페이지는 버린다
+        pages.invalidateIf((k, list) -> {
+            for (int postId : delta.deletedIds()) {
+                if (contains(list, postId))
+                    return true;
+            }
+            if (k.keyword() != null)
+                return !delta.changed().isEmpty();
+            return k.beforePostId() == 0 && newestChanged > 0
+                    && (list.isEmpty() || newestChanged > list.get(0).postId());
+        });
+        for (PostView changed : delta.changed()) {
+            PostView shared = changed.withMyState(null);
+            pages.replaceValues((k, list) -> patch(list, changed.postId(), p -> shared));
+            viewerStates.put(new StateKey(requesterId, changed.postId()), changed.myState());
+        }
+        comments.invalidateIf((k, list) -> {
+            for (PostView p : delta.changed()) {
+                if (p.postId() == k.postId())
+                    return true;
+            }
+            return delta.deletedIds().contains(k.postId());
+        });
+    }
+
+    private List<PostView> cachedPage(int requesterId, PageKey key) {
+        boolean refill = key.keyword() == null && key.beforePostId() == 0 && firstPageStale();
+        List<PostView> shared = refill ? null : pages.get(key);
+        if (shared != null) {
+            List<PostView> out = withViewerStates(requesterId, shared);
+            if (out != null) {
+                feedHits.increment();
+                return out;
+            }
+        }
+        // 페이지가 없거나, 있어도 이 사용자의 반응 상태를 모르면 원본 조회
+        feedMisses.increment();
+        long epoch = epoch();
+        List<PostView> fresh = key.keyword() == null
+                ? delegate.listRecentPage(requesterId, key.beforePostId(), key.limit())
+                : delegate.searchPage(requesterId, key.keyword(), key.beforePostId(), key.limit());
+        List<PostView> stripped = new ArrayList<>(fresh.size());
+        for (PostView p : fresh)
+            stripped.add(p.withMyState(null));
+        fillIfUnchanged(epoch, () -> {
+            for (PostView p : fresh)
+                viewerStates.put(new StateKey(requesterId, p.postId()), p.myState());
+            pages.put(key, List.copyOf(stripped));
+            if (refill)
+                firstPageStale = false;
+        });
+        return fresh;
+    }
+
+    /** 공유 데이터에 사용자 상태를 입힌다. 하나라도 모르면 null */
+    private List<PostView> withViewerStates(int viewerId, List<PostView> shared) {
+        List<PostView> out = new ArrayList<>(shared.size());
+        for (PostView p : shared) {
+            String state = viewerStates.get(new StateKey(viewerId, p.postId()));
+            if (state == null)
+                return null;
+            out.add(p.withMyState(state));
+        }
+        return out;
+    }
+
+    /* ========== 쓰기: 위임 후 영향받는 항목만 무효화/수정 ========== */
+
+    @Override
+    public ReactionView toggleReaction(int userId, int postId, String type) {
+        ReactionView r = delegate.toggleReaction(userId, postId, type);
+        // 카운터는 공유 데이터에서 그 글만 고치고, 상태는 이 사용자 것만 바꾼다
+        afterWrite(() -> {
+            pages.replaceValues((k, list) -> patch(list, postId,
+                    p -> new PostView(p.postId(), p.authorId(), p.authorName(), p.content(), p.filePath(),
+                            p.fileName(), p.uploadTime(), r.likeCount(), r.dislikeCount(), p.commentCount(), null)));
+            viewerStates.put(new StateKey(userId, postId), r.myState());
+        });
+        return r;
+    }
+
+    @Override
+    public PostView createPost(int userId, String filePath, String fileName, String text) {
+        PostView created = delegate.createPost(userId, filePath, fileName, text);
+        // 새 글은 id 가 가장 크므로 첫 페이지(before == 0)들에만 영향
+        afterWrite(() -> pages.invalidateIf((k, list) -> k.beforePostId() == 0));
+        return created;
+    }
+
+    @Override
+    public boolean updatePost(int userId, int postId, String newContent) {
+        boolean updated = delegate.updatePost(userId, postId, newContent);
+        if (updated) {
+            // 본문이 바뀌면 검색 결과 구성이 달라질 수 있으므로 검색 페이지는 모두 버리고, 피드는 그 행만 수정
+            afterWrite(() -> {
+                pages.invalidateIf((k, list) -> k.keyword() != null);
+                pages.replaceValues((k, list) -> patch(list, postId, p -> p.withContent(newContent)));
+            });
+        }
+        return updated;
+    }
+
+    @Override
+    public boolean deletePost(int userId, int postId) {
+        boolean deleted = delegate.deletePost(userId, postId);
+        if (deleted) {
+            afterWrite(() -> {
+                pages.invalidateIf((k, list) -> contains(list, postId));
+                comments.invalidateIf((k, list) -> k.postId() == postId);
+            });
+        }
+        return deleted;
+    }
+
+    /* ========== Comments ========== */
+
+    @Override
+    public List<CommentView> listCommentsPage(int postId, int beforeCommentId, int limit) {
+        // 다시 열 때마다 읽는 최신 페이지만 캐시 (이전 댓글 페이지는 스크롤할 때 한 번씩만 읽음)
+        if (beforeCommentId > 0)
+            return delegate.listCommentsPage(postId, beforeCommentId, limit);
+        CommentKey key = new CommentKey(postId, limit);
+        List<CommentView> cached = comments.get(key);
+        if (cached != null) {
+            commentHits.increment();
+            return cached;
+        }
+        commentMisses.increment();
+        long epoch = epoch();
+        List<CommentView> fresh = List.copyOf(delegate.listCommentsPage(postId, 0, limit));
+        fillIfUnchanged(epoch, () -> comments.put(key, fresh));
+        return fresh;
+    }
+
+    @Override
+    public CommentView addComment(int userId, int postId, String content) {
+        CommentView created = delegate.addComment(userId, postId, content);
+        afterWrite(() -> {
+            // 새 댓글은 id 가 가장 크므로 최신 페이지 맨 앞에 끼우고 넘치는 만큼 뒤에서 뺀다
+            comments.replaceValues((k, list) -> {
+                if (k.postId() != postId)
+                    return list;
+                List<CommentView> out = new ArrayList<>(list.size() + 1);
+                out.add(created);
+                out.addAll(list.subList(0, Math.min(list.size(), k.limit() - 1)));
+                return List.copyOf(out);
+            });
+            // 피드 페이지의 댓글 수도 그 글만 하나 올린다
+            pages.replaceValues((k, list) -> patch(list, postId, p -> p.withCommentCount(p.commentCount() + 1)));
+        });
+        return created;
+    }
+
+    /* ========== helpers ========== */
+
+    /** 쓰기 결과로 캐시를 고친다: 세대를 올려서 그 전에 시작한 읽기가 옛 값을 되쓰지 않게 한다 */
+    private void afterWrite(Runnable fix) {
+        synchronized (epochLock) {
+            writeEpoch++;
+            fix.run();
+        }
+    }
+
+    private boolean firstPageStale() {
+        synchronized (epochLock) {
+            return firstPageStale;
+        }
+    }
+
+    private long epoch() {
+        synchronized (epochLock) {
+            return writeEpoch;
+        }
+    }
+
+    /** 읽기를 시작한 뒤로 쓰기가 없었을 때만 조회 결과를 캐시에 넣는다 */
+    private void fillIfUnchanged(long epoch, Runnable fill) {
+        synchronized (epochLock) {
+            if (writeEpoch == epoch)
+                fill.run();
+        }
+    }
+
+    private static boolean contains(List<PostView> list, int postId) {
+        for (PostView p : list) {
+            if (p.postId() == postId)
+                return true;
+        }
+        return false;
+    }
+
+    /** postId 행만 바꾼 새 목록 (없으면 원래 목록 그대로) */
+    private static List<PostView> patch(List<PostView> list, int postId, UnaryOperator<PostView> fn) {
+        if (!contains(list, postId))
+            return list;
+        List<PostView> out = new ArrayList<>(list.size());
+        for (PostView p : list)
+            out.add(p.postId() == postId ? fn.apply(p) : p);
+        return List.copyOf(out);
+    }
+}
@@ -0,0 +1,331 @@
+package service.port;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import service.search.PostSearchIndex;
+
+/**
+ * DB 없이 도는 메모리 구현 (UI 확인, 벤치마크 대역용).
+ * <p>
+ * 규칙은 MySnsPort 와 같게 맞춘다: Post_id 키셋 페이지, 검색은 같은 n-gram 색인 후보를 실제 값으로 확인, 반응 토글은
+ * toggle_reaction 프로시저와 같은 전이, 수정/삭제는 작성자만, 사용자명/이메일 중복 가입은 null. 변경분의 기준점은 시각 대신
+ * 변경 순번이다 (묘비는 지우지 않으므로 오래된 기준점도 reset 없이 따라잡는다).
+ */
+public class MemorySnsPort implements SnsPort {
+
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private record User(int id, String name, String email, String password) {
+    }
+
+    private static final class Post {
+        final int id, authorId;
+        final String authorName, filePath, fileName, uploadTime;
+        String content;
+        int likes, dislikes, comments;
+        long changeSeq; // 마지막 변경 순번 (changeLog 의 키)
+
+        Post(int id, int authorId, String authorName, String content, String filePath, String fileName,
+                String uploadTime) {
+            this.id = id;
+            this.authorId = authorId;
+            this.authorName = authorName;
+            this.content = content;
+            this.filePath = filePath;
+            this.fileName = fileName;
+            this.uploadTime = uploadTime;
+        }
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Integer, User> users = new HashMap<>();
+    private final Map<String, User> usersByName = new HashMap<>();
+    private final Map<String, User> usersByEmail = new HashMap<>();
+    private final NavigableMap<Integer, Post> posts = new TreeMap<>();
+    private final Map<Integer, Map<Integer, String>> reactions = new HashMap<>(); // postId → (userId → 유형)
+    private final Map<Integer, List<CommentView>> comments = new HashMap<>(); // 글마다 id 오름차순
+    private final NavigableMap<Long, Integer> changeLog = new TreeMap<>(); // 변경 순번 → postId (삭제는 -postId)
+    private long changeSeq;
+    private final PostSearchIndex searchIndex = new PostSearchIndex();
+    private int nextUserId = 1, nextPostId = 1, nextCommentId = 1;
+
+    public MemorySnsPort() {
+        searchIndex.markReady(); // 처음부터 비어 있는 색인
+    }
+
+    /* ========== Auth ========== */
+
+    @Override
+    public UserView login(String username, String password) {
+        lock.readLock().lock();
+        try {
+            User u = usersByName.get(username);
+            return u != null && u.password.equals(password) ? new UserView(u.id, u.name) : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public UserView loginByEmail(String email, String password) {
+        lock.readLock().lock();
+        try {
+            User u = usersByEmail.get(email);
+            return u != null && u.password.equals(password) ? new UserView(u.id, u.name) : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public UserView register(String username, String email, String password) {
+        lock.writeLock().lock();
+        try {
+            if (usersByName.containsKey(username) || usersByEmail.containsKey(email))
+                return null;
+            User u = new User(nextUserId++, username, email, password);
+            users.put(u.id, u);
+            usersByName.put(username, u);
+            usersByEmail.put(email, u);
+            return new UserView(u.id, u.name);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /* ========== Feed ========== */
+
+    @Override
+    public List<PostView> listRecentPage(int requesterId, int beforePostId, int limit) {
+        lock.readLock().lock();
+        try {
+            List<PostView> list = new ArrayList<>(limit);
+            for (Post p : olderThan(beforePostId).values()) {
+                if (list.size() >= limit)
+                    break;
+                list.add(view(p, requesterId));
+            }
+            return list;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<PostView> searchPage(int requesterId, String keyword, int beforePostId, int limit) {
+        int[] ids = searchIndex.candidates(keyword, beforePostId, limit);
+        lock.readLock().lock();
+        try {
+            List<PostView> list = new ArrayList<>(limit);
+            if (ids == null) {
+                // 한 글자 검색 → LIKE 와 같은 전체 훑기
+                for (Post p : olderThan(beforePostId).values()) {
+                    if (list.size() >= limit)
+                        break;
+                    if (PostSearchIndex.matches(keyword, p.content, p.fileName, p.authorName))
+                        list.add(view(p, requesterId));
+                }
+                return list;
+            }
+            // 확인에서 걸러져 모자라면 마지막 후보 다음부터 더 받는다
+            while (ids.length > 0) {
+                for (int id : ids) {
+                    Post p = posts.get(id);
+                    if (list.size() < limit && p != null
+                            && PostSearchIndex.matches(keyword, p.content, p.fileName, p.authorName))
+                        list.add(view(p, requesterId));
+                }
+                if (list.size() >= limit)
+                    break;
+                ids = searchIndex.candidates(keyword, ids[ids.length - 1], limit);
+            }
+            return list;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public FeedDelta changesSince(int requesterId, long since, int limit) {
+        lock.readLock().lock();
+        try {
+            if (since <= 0)
+                return new FeedDelta(List.of(), List.of(), changeSeq, true);
+            NavigableMap<Long, Integer> tail = changeLog.tailMap(since, false);
+            if (tail.size() > limit)
+                return new FeedDelta(List.of(), List.of(), changeSeq, true);
+            NavigableMap<Integer, Post> changed = new TreeMap<>();
+            List<Integer> deletedIds = new ArrayList<>();
+            for (int id : tail.values()) {
+                if (id < 0)
+                    deletedIds.add(-id);
+                else
+                    changed.put(id, posts.get(id));
+            }
+            List<PostView> list = new ArrayList<>(changed.size());
+            for (Post p : changed.descendingMap().values())
+                list.add(view(p, requesterId));
+            return new FeedDelta(list, deletedIds, changeSeq, false);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /* ========== Reaction / Post ========== */
+
+    @Override
+    public ReactionView toggleReaction(int userId, int postId, String type) {
+        lock.writeLock().lock();
+        try {
+            Post p = posts.get(postId);
+            if (p == null)
+                throw new SnsException("반응 처리 실패: 게시글 없음 (" + postId + ")", null);
+            Map<Integer, String> byUser = reactions.computeIfAbsent(postId, k -> new HashMap<>());
+            String prev = byUser.get(userId);
+            String next = type.equals(prev) ? null : type;
+            if (next == null)
+                byUser.remove(userId);
+            else
+                byUser.put(userId, next);
+            p.likes += ("LIKE".equals(next) ? 1 : 0) - ("LIKE".equals(prev) ? 1 : 0);
+            p.dislikes += ("DISLIKE".equals(next) ? 1 : 0) - ("DISLIKE".equals(prev) ? 1 : 0);
+            touch(p);
+            return new ReactionView(postId, next == null ? "NONE" : next, p.likes, p.dislikes);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public PostView createPost(int userId, String filePath, String fileName, String text) {
+        Post p;
+        PostView created;
+        lock.writeLock().lock();
+        try {
+            User u = users.get(userId);
+            if (u == null)
+                throw new SnsException("게시글 작성 실패: 사용자 없음 (" + userId + ")", null);
+            p = new Post(nextPostId++, userId, u.name, text == null ? "" : text, filePath, fileName,
+                    LocalDateTime.now().format(TIME));
+            posts.put(p.id, p);
+            touch(p);
+            created = view(p, userId); // reactions 는 잠금 안에서만 읽는다
+        } finally {
+            lock.writeLock().unlock();
+        }
+        searchIndex.add(p.id, p.content, p.fileName, p.authorName);
+        return created;
+    }
+
+    @Override
+    public boolean deletePost(int userId, int postId) {
+        lock.writeLock().lock();
+        try {
+            Post p = posts.get(postId);
+            if (p == null || p.authorId != userId)
+                return false;
+            posts.remove(postId);
+            reactions.remove(postId);
+            comments.remove(postId);
+            changeLog.remove(p.changeSeq);
+            changeLog.put(++changeSeq, -postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        searchIndex.remove(postId);
+        return true;
+    }
+
+    @Override
+    public boolean updatePost(int userId, int postId, String newContent) {
+        Post p;
+        lock.writeLock().lock();
+        try {
+            p = posts.get(postId);
+            if (p == null || p.authorId != userId)
+                return false;
+            p.content = newContent;
+            touch(p);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        searchIndex.add(postId, newContent, p.fileName, p.authorName);
+        return true;
+    }
+
+    /* ========== Comments ========== */
+
+    @Override
+    public List<CommentView> listCommentsPage(int postId, int beforeCommentId, int limit) {
+        lock.readLock().lock();
+        try {
+            List<CommentView> all = comments.getOrDefault(postId, List.of());
+            // id 오름차순이므로 beforeCommentId 자리부터 거꾸로
+            int end = all.size();
+            if (beforeCommentId > 0) {
+                int lo = 0, hi = all.size();
+                while (lo < hi) {
+                    int mid = (lo + hi) >>> 1;
+                    if (all.get(mid).id() < beforeCommentId)
+                        lo = mid + 1;
+                    else
+                        hi = mid;
+                }
+                end = lo;
+            }
+            List<CommentView> page = new ArrayList<>(Math.min(limit, end));
+            for (int i = end - 1; i >= 0 && page.size() < limit; i--)
+                page.add(all.get(i));
+            return page;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public CommentView addComment(int userId, int postId, String content) {
+        lock.writeLock().lock();
+        try {
+            User u = users.get(userId);
+            Post p = posts.get(postId);
+            if (u == null || p == null)
+                throw new SnsException("댓글 작성 실패: 사용자/게시글 없음", null);
+            CommentView c = new CommentView(nextCommentId++, u.name, content, LocalDateTime.now().format(TIME));
+            comments.computeIfAbsent(postId, k -> new ArrayList<>()).add(c);
+            p.comments++;
+            touch(p);
+            return c;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /* ========== helpers (읽기 잠금 안에서 호출, touch 는 쓰기 잠금) ========== */
+
+    /** 글이 바뀌었음을 기록: 변경 기록에는 글마다 마지막 변경 하나만 남긴다 */
+    private void touch(Post p) {
+        changeLog.remove(p.changeSeq);
+        p.changeSeq = ++changeSeq;
+        changeLog.put(p.changeSeq, p.id);
+    }
+
+    private NavigableMap<Integer, Post> olderThan(int beforePostId) {
+        return (beforePostId > 0 ? posts.headMap(beforePostId, false) : posts).descendingMap();
+    }
+
+    private PostView view(Post p, int requesterId) {
+        Map<Integer, String> byUser = reactions.get(p.id);
+        String state = byUser == null ? null : byUser.get(requesterId);
+        return new PostView(p.id, p.authorId, p.authorName, p.content, p.filePath, p.fileName, p.uploadTime,
+                p.likes, p.dislikes, p.comments, state == null ? "NONE" : state);
+    }
+}
@@ -0,0 +1,442 @@
+package service.port;
+
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 계측 데코레이터. 아무 SnsPort 나 감싸서 메서드별 호출 수, 실패 수, 지연 히스토그램(백분위수)을 모으고, 기준보다 느린 호출은
+ * 인자와 함께 로그로 남긴다.
+ * <p>
+ * 히스토그램은 HdrHistogram 과 같은 로그-선형 버킷이다: 2 의 거듭제곱 구간마다 16 칸으로 나눠서 나노초부터 몇 시간까지 약
+ * 6% 오차로 660 여 칸에 담는다. 기록은 nanoTime 두 번과 카운터 증가 두어 번뿐이고(스레드별 줄을 나눠 경합을 피함), 인자
+ * 문자열은 느린 호출일 때만 만든다. 그래서 피드 같은 빈번한 경로를 감싸도 비용이 거의 없다.
+ */
+public class MetricsSnsPort implements SnsPort {
+
+    /** 메서드 하나의 집계 (지연은 마이크로초) */
+    public record OpStats(String name, long calls, long errors, double meanMicros, double p50Micros,
+            double p90Micros, double p99Micros, double p999Micros, double maxMicros) {
+        @Override
+        public String toString() {
+            return String.format("%-16s %9d %6d %10.1f %10.1f %10.1f %10.1f %10.1f %10.1f", name, calls, errors,
+                    meanMicros, p50Micros, p90Micros, p99Micros, p999Micros, maxMicros);
+        }
+    }
+
+    /** 느린 호출 한 건 */
+    public record SlowCall(LocalTime at, String method, double millis, boolean failed, String args) {
+        @Override
+        public String toString() {
+            return String.format("%s %s %.1fms%s (%s)", at.format(TIME), method, millis, failed ? " FAILED" : "",
+                    args);
+        }
+    }
+
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HH:mm:ss.SSS");
+    private static final int RECENT_SLOW = 32;
+
+    private final SnsPort delegate;
+    private final long slowNanos;
+    private final List<Metric> metrics = new ArrayList<>();
+    private final Deque<SlowCall> recentSlow = new ArrayDeque<>(); // 보호: 자기 자신
+
+    private final Metric login = metric("login");
+    private final Metric loginByEmail = metric("loginByEmail");
+    private final Metric register = metric("register");
+    private final Metric listRecentPage = metric("listRecentPage");
+    private final Metric searchPage = metric("searchPage");
+    private final Metric changesSince = metric("changesSince");
+    private final Metric toggleReaction = metric("toggleReaction");
+    private final Metric createPost = metric("createPost");
+    private final Metric listCommentsPage = metric("listCommentsPage");
+    private final Metric addComment = metric("addComment");
+    private final Metric deletePost = metric("deletePost");
+    private final Metric updatePost = metric("updatePost");
+
+    public MetricsSnsPort(SnsPort delegate) {
+        this(delegate, 200);
+    }
+
+    /** @param slowMillis 이 시간 이상 걸린 호출은 인자와 함께 로그 (0 이하면 끔) */
+    public MetricsSnsPort(SnsPort delegate, long slowMillis) {
+        this.delegate = delegate;
+        this.slowNanos = slowMillis > 0 ? TimeUnit.MILLISECONDS.toNanos(slowMillis) : Long.MAX_VALUE;
+    }
+
+    private Metric metric(String name) {
+        Metric m = new Metric(name);
+        metrics.add(m);
+        return m;
+    }
+
+    /** 한 번이라도 호출된 메서드의 현재 집계 */
+    public List<OpStats> stats() {
+        List<OpStats> out = new ArrayList<>();
+        for (Metric m : metrics) {
+            OpStats s = m.snapshot();
+            if (s.calls() > 0)
+                out.add(s);
+        }
+        return out;
+    }
+
+    /** 최근 느린 호출 (오래된 것부터) */
+    public List<SlowCall> recentSlowCalls() {
+        synchronized (recentSlow) {
+            return List.copyOf(recentSlow);
+        }
+    }
+
+    /** 사람이 읽는 표 형태 보고서 */
+    public String report() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("[metrics] %-16s %9s %6s %10s %10s %10s %10s %10s %10s%n", "op", "calls", "errors",
+                "mean(us)", "p50(us)", "p90(us)", "p99(us)", "p99.9(us)", "max(us)"));
+        for (OpStats s : stats())
+            sb.append("[metrics] ").append(s).append(System.lineSeparator());
+        List<SlowCall> slow = recentSlowCalls();
+        if (!slow.isEmpty()) {
+            sb.append("[metrics] 최근 느린 호출 ").append(slow.size()).append("건").append(System.lineSeparator());
+            for (SlowCall c : slow)
+                sb.append("[metrics]   ").append(c).append(System.lineSeparator());
+        }
+        return sb.toString();
+    }
+
+    /** 집계와 느린 호출 기록 초기화 (구간별로 보고 싶을 때) */
+    public void reset() {
+        for (Metric m : metrics)
+            m.reset();
+        synchronized (recentSlow) {
+            recentSlow.clear();
+        }
+    }
+
+    /* ========== Auth ========== */
+
+    @Override
+    public UserView login(String username, String password) {
+        long t0 = System.nanoTime();
+        boolean ok = false;
+        try {
+            UserView r = delegate.login(username, password);
+            ok = true;
+            return r;
+        } finally {
+            long dt = login.record(t0, ok);
+            if (dt >= slowNanos)
+                slow(login, dt, ok, "username=" + quote(username)); // 비밀번호는 남기지 않음
+        }
+    }
+
+    @Override
+    public UserView loginByEmail(String email, String password) {
+        long t0 = System.nanoTime();
+        boolean ok = false;
+        try {
+            UserView r = delegate.loginByEmail(email, password);
+            ok = true;
+            return r;
+        } finally {
+            long dt = loginByEmail.record(t0, ok);
+            if (dt >= slowNanos)
+                slow(loginByEmail, dt, ok, "email=" + quote(email));
+        }
+    }
+
+    @Override
+    public UserView register(String username, String email, String password) {
+        long t0 = System.nanoTime();
+        boolean ok = false;
+        try {
+            UserView r = delegate.register(username, email, password);
+            ok = true;
+            return r;
+        } finally {
+            long dt = register.record(t0, ok);
+            if (dt >= slowNanos)
+                slow(register, dt, ok, "username=" + quote(username) + ", email=" + quote(email));
+        }
+    }
+
+    @Override
+    public UserView register(String username, String password) {
+        long t0 = System.nanoTime();
+        boolean ok = false;
+        try {
+            UserView r = delegate.register(username, password);
+            ok = true;
+            return r;
+        } finally {
+            long dt = register.record(t0, ok);
+            if (dt >= slowNanos)
+                slow(register, dt, ok, "username=" + quote(username));
+        }
+    }
+
+    /* ========== Feed ========== */
+
+    @Override
+    public List<PostView> listRecentPage(int requesterId, int beforePostId, int limit) {
+        long t0 = System.nanoTime();
+        boolean ok = false;
+        try {
+            List<PostView> r = delegate.listRecentPage(requesterId, beforePostId, limit);
+            ok = true;
+            return r;
+        } finally {
+            long dt = listRecentPage.record(t0, ok);
+            if (dt >= slowNanos)
+                slow(listRecentPage, dt, ok,
+                        "requesterId=" + requesterId + ", beforePostId=" + beforePostId + ", limit=" + limit);
+        }
+    }
+
+    @Override
+    public List<PostView> searchPage(int requesterId, String keyword, int beforePostId, int limit) {
+        long t0 = System.nanoTime();
+        boolean ok = false;
+        try {
+            List<PostView> r = delegate.searchPage(requesterId, keyword, beforePostId, limit);
+            ok = true;
+            return r;
+        } finally {
+            long dt = searchPage.record(t0, ok);
+            if (dt >= slowNanos)
+                slow(searchPage, dt, ok, "requesterId=" + requesterId + ", keyword=" + quote(keyword)
+                        + ", beforePostId=" + beforePostId + ", limit=" + limit);
+        }
+    }
+
+    @Override
+    public FeedDelta changesSince(int requesterId, long since, int limit) {
+        long t0 = System.nanoTime();
+        boolean ok = false;
+        try {
+            FeedDelta r = delegate.changesSince(requesterId, since, limit);
+            ok = true;
+            return r;
+        } finally {
+            long dt = changesSince.record(t0, ok);
+            if (dt >= slowNanos)
+                slow(changesSince, dt, ok, "requesterId=" + requesterId + ", since=" + since + ", limit=" + limit);
+        }
+    }
+
+    @Override
+    public ReactionView toggleReaction(int userId, int postId, String type) {
+        long t0 = System.nanoTime();
+        boolean ok = false;
+        try {
+            ReactionView r = delegate.toggleReaction(userId, postId, type);
+            ok = true;
+            return r;
+        } finally {
+            long dt = toggleReaction.record(t0, ok);
+            if (dt >= slowNanos)
+                slow(toggleReaction, dt, ok, "userId=" + userId + ", postId=" + postId + ", type=" + type);
+        }
+    }
+
+    @Override
+    public PostView createPost(int userId, String filePath, String fileName, String text) {
+        long t0 = System.nanoTime();
+        boolean ok = false;
+        try {
+            PostView r = delegate.createPost(userId, filePath, fileName, text);
+            ok = true;
+            return r;
+        } finally {
+            long dt = createPost.record(t0, ok);
+            if (dt >= slowNanos)
+                slow(createPost, dt, ok, "userId=" + userId + ", fileName=" + quote(fileName) + ", text="
+                        + quote(text));
+        }
+    }
+
+    @Override
+    public boolean deletePost(int userId, int postId) {
+        long t0 = System.nanoTime();
+        boolean ok = false;
+        try {
+            boolean r = delegate.deletePost(userId, postId);
+            ok = true;
+            return r;
+        } finally {
+            long dt = deletePost.record(t0, ok);
+            if (dt >= slowNanos)
+                slow(deletePost, dt, ok, "userId=" + userId + ", postId=" + postId);
+        }
+    }
+
+    @Override
+    public boolean updatePost(int userId, int postId, String newContent) {
+        long t0 = System.nanoTime();
+        boolean ok = false;
+        try {
+            boolean r = delegate.updatePost(userId, postId, newContent);
+            ok = true;
+            return r;
+        } finally {
+            long dt = updatePost.record(t0, ok);
+            if (dt >= slowNanos)
+                slow(updatePost, dt, ok, "userId=" + userId + ", postId=" + postId + ", newContent="
+                        + quote(newContent));
+        }
+    }
+
+    /* ========== Comments ========== */
+
+    @Override
+    public List<CommentView> listCommentsPage(int postId, int beforeCommentId, int limit) {
+        long t0 = System.nanoTime();
+        boolean ok = false;
+        try {
+            List<CommentView> r = delegate.listCommentsPage(postId, beforeCommentId, limit);
+            ok = true;
+            return r;
+        } finally {
+            long dt = listCommentsPage.record(t0, ok);
+            if (dt >= slowNanos)
+                slow(listCommentsPage, dt, ok,
+                        "postId=" + postId + ", beforeCommentId=" + beforeCommentId + ", limit=" + limit);
+        }
+    }
+
+    @Override
+    public CommentView addComment(int userId, int postId, String content) {
+        long t0 = System.nanoTime();
+        boolean ok = false;
+        try {
+            CommentView r = delegate.addComment(userId, postId, content);
+            ok = true;
+            return r;
+        } finally {
+            long dt = addComment.record(t0, ok);
+            if (dt >= slowNanos)
+                slow(addComment, dt, ok, "userId=" + userId + ", postId=" + postId + ", content=" + quote(content));
+        }
+    }
+
+    /* ========== helpers ========== */
+
+    private void slow(Metric m, long nanos, boolean ok, String args) {
+        SlowCall call = new SlowCall(LocalTime.now(), m.name, nanos / 1e6, !ok, args);
+        synchronized (recentSlow) {
+            if (recentSlow.size() == RECENT_SLOW)
+                recentSlow.removeFirst();
+            recentSlow.addLast(call);
+        }
+        System.out.println("[slow] " + call);
+    }
+
+    /** 긴 본문은 앞부분만 */
+    private static String quote(String s) {
+        if (s == null)
+            return "null";
+        return "\"" + (s.length() > 40 ? s.substring(0, 40) + "…" : s) + "\"";
+    }
+
+    /**
+     * 메서드 하나의 카운터와 로그-선형 히스토그램. 버킷 배열을 스레드 해시로 STRIPES 줄로 나눠서 여러 스레드가 같은 칸을
+     * 동시에 올려도 한 캐시 라인을 두고 다투지 않게 한다 (읽을 때 줄을 합산).
+     */
+    private static final class Metric {
+        private static final int SUB_BITS = 4;
+        private static final int SUB = 1 << SUB_BITS; // 2 의 거듭제곱 구간당 칸 수
+        private static final long MAX_TRACKED = (1L << 43) - 1; // 약 2.4 시간 (넘으면 마지막 칸)
+        private static final int BUCKETS = bucket(MAX_TRACKED) + 1;
+        private static final int STRIPES = 8;
+
+        final String name;
+        private final AtomicLongArray counts = new AtomicLongArray(STRIPES * BUCKETS);
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        Metric(String name) {
+            this.name = name;
+        }
+
+        /** 호출 한 건 기록 후 걸린 시간(ns) 반환 */
+        long record(long startNanos, boolean ok) {
+            long dt = System.nanoTime() - startNanos;
+            int stripe = (Thread.currentThread().hashCode() * 0x9E3779B9 >>> 16) & (STRIPES - 1);
+            counts.incrementAndGet(stripe * BUCKETS + bucket(Math.min(dt, MAX_TRACKED)));
+            totalNanos.add(dt);
+            maxNanos.accumulate(dt);
+            if (!ok)
+                errors.increment();
+            return dt;
+        }
+
+        /** 2*SUB 미만은 값 그대로, 그 위는 (지수, 상위 SUB_BITS+1 비트) 로 칸 번호를 정한다 */
+        static int bucket(long v) {
+            if (v < 2 * SUB)
+                return (int) Math.max(0, v);
+            int shift = 63 - Long.numberOfLeadingZeros(v) - SUB_BITS;
+            return shift * SUB + (int) (v >>> shift);
+        }
+
+        /** 칸에 들어가는 가장 큰 값 */
+        static long upperBound(int idx) {
+            if (idx < 2 * SUB)
+                return idx;
+            int shift = idx / SUB - 1;
+            long top = idx % SUB + SUB;
+            return ((top + 1) << shift) - 1;
+        }
+
+        long calls() {
+            long n = 0;
+            for (int i = 0; i < counts.length(); i++)
+                n += counts.get(i);
+            return n;
+        }
+
+        OpStats snapshot() {
+            long[] merged = new long[BUCKETS];
+            long calls = 0;
+            for (int s = 0; s < STRIPES; s++) {
+                for (int b = 0; b < BUCKETS; b++) {
+                    long c = counts.get(s * BUCKETS + b);
+                    merged[b] += c;
+                    calls += c;
+                }
+            }
+            long max = maxNanos.get();
+            return new OpStats(name, calls, errors.sum(), calls == 0 ? 0 : totalNanos.sum() / 1e3 / calls,
+                    percentile(merged, calls, 0.50, max), percentile(merged, calls, 0.90, max),
+                    percentile(merged, calls, 0.99, max), percentile(merged, calls, 0.999, max), max / 1e3);
+        }
+
+        private static double percentile(long[] buckets, long calls, double p, long max) {
+            if (calls == 0)
+                return 0;
+            long rank = (long) Math.ceil(p * calls);
+            long seen = 0;
+            for (int b = 0; b < buckets.length; b++) {
+                seen += buckets[b];
+                if (seen >= rank)
+                    return Math.min(upperBound(b), max) / 1e3;
+            }
+            return max / 1e3;
+        }
+
+        void reset() {
+            for (int i = 0; i < counts.length(); i++)
+                counts.set(i, 0);
+            errors.reset();
+            totalNanos.reset();
+            maxNanos.reset();
+        }
+    }
+}
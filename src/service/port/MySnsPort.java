@@ -1,14 +1,25 @@
 package service.port;
 
+import service.db.ConnectionPool;
+import service.search.PostSearchIndex;
+
 import java.sql.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class MySnsPort implements SnsPort {
 
-    private final Connection conn;
+    // 커넥션 하나를 계속 붙잡지 않고, 호출마다 풀에서 빌려 쓰고 반납한다.
+    private final ConnectionPool pool;
+
+    // 키워드 검색용 n-gram 색인 (시작 시 백그라운드로 적재, 글 작성/수정/삭제 때 증분 반영)
+    private final PostSearchIndex searchIndex = new PostSearchIndex();
 
-    public MySnsPort(Connection conn) {
-        this.conn = conn;
+    public MySnsPort(ConnectionPool pool) {
+        this.pool = pool;
+        Thread t = new Thread(this::buildSearchIndex, "search-index-loader");
+        t.setDaemon(true);
+        t.start();
     }
 
     /* ========== Auth (로그인/회원가입) ========== */
@@ -16,7 +27,7 @@ public class MySnsPort implements SnsPort {
     @Override
     public UserView login(String username, String password) {
         String sql = "SELECT User_id, Name FROM USER WHERE Name=? AND Password=?";
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+        try (Connection conn = pool.getConnection(); PreparedStatement ps = conn.prepareStatement(sql)) {
             ps.setString(1, username);
             ps.setString(2, password);
             ResultSet rs = ps.executeQuery();
@@ -24,7 +35,7 @@ public class MySnsPort implements SnsPort {
                 return new UserView(rs.getInt("User_id"), rs.getString("Name"));
             }
         } catch (SQLException e) {
-            e.printStackTrace();
+            throw new SnsException("로그인 실패", e);
         }
         return null;
     }
@@ -32,7 +43,7 @@ public class MySnsPort implements SnsPort {
     @Override
     public UserView loginByEmail(String email, String password) {
         String sql = "SELECT User_id, Name FROM USER WHERE Email=? AND Password=?";
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+        try (Connection conn = pool.getConnection(); PreparedStatement ps = conn.prepareStatement(sql)) {
             ps.setString(1, email);
             ps.setString(2, password);
             ResultSet rs = ps.executeQuery();
@@ -40,28 +51,17 @@ public class MySnsPort implements SnsPort {
                 return new UserView(rs.getInt("User_id"), rs.getString("Name"));
             }
         } catch (SQLException e) {
-            e.printStackTrace();
+            throw new SnsException("이메일 로그인 실패", e);
         }
         return null;
     }
 
     @Override
     public UserView register(String username, String email, String password) {
-        // 1. 중복 체크
-        String checkSql = "SELECT User_id FROM USER WHERE Name=? OR Email=?";
-        try (PreparedStatement ps = conn.prepareStatement(checkSql)) {
-            ps.setString(1, username);
-            ps.setString(2, email);
-            if (ps.executeQuery().next())
-                return null;
-        } catch (SQLException e) {
-            e.printStackTrace();
-            return null;
-        }
-
-        // 2. 가입 처리
+        // 중복 체크는 USER 의 UNIQUE(Name), UNIQUE(Email) 에 맡기고 INSERT 한 번으로 처리
         String sql = "INSERT INTO USER(Name, Email, Password) VALUES (?, ?, ?)";
-        try (PreparedStatement ps = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+        try (Connection conn = pool.getConnection();
+                PreparedStatement ps = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
             ps.setString(1, username);
             ps.setString(2, email);
             ps.setString(3, password);
@@ -71,218 +71,521 @@ public class MySnsPort implements SnsPort {
             if (rs.next()) {
                 return new UserView(rs.getInt(1), username);
             }
+        } catch (SQLIntegrityConstraintViolationException dup) {
+            return null; // 이미 존재하는 사용자명/이메일
         } catch (SQLException e) {
-            e.printStackTrace();
+            throw new SnsException("회원가입 실패", e);
         }
         return null;
     }
 
     /* ========== Feed (목록/검색) ========== */
 
+    // 목록/검색 공통 SELECT (WHERE 절은 feedSql 에서 붙인다). 내 반응 상태는 행마다 하위 조회로 붙이지 않고,
+    // 페이지를 받은 뒤 withMyStates 에서 한 번에 채운다.
+    private static final String FEED_SELECT = """
+                SELECT p.Post_id, p.User_id AS authorId, u.Name AS authorName,
+                       p.Post_context,
+                       p.File_path, p.File_name,
+                       DATE_FORMAT(p.Upload_time, '%Y-%m-%d %H:%i') AS uploadTime,
+                       p.Like_count AS likeCount, p.Dislike_count AS dislikeCount,
+                       p.Comment_count AS commentCount
+                FROM POST p
+                JOIN USER u ON p.User_id = u.User_id
+            """;
+
+    private static final String SEARCH_FILTER = "(p.Post_context LIKE ? OR p.File_name LIKE ? OR u.Name LIKE ?)";
+
+    // 피드 SQL 은 조합이 몇 개뿐이라 미리 만들어 둔다. SQL 문자열이 매번 같아야 커넥션 풀의 문장 캐시(와 서버 쪽 준비)를
+    // 그대로 다시 쓸 수 있다.
+    private static final String RECENT_FIRST = feedSql(null, false);
+    private static final String RECENT_BEFORE = feedSql(null, true);
+    private static final String SEARCH_FIRST = feedSql(SEARCH_FILTER, false);
+    private static final String SEARCH_BEFORE = feedSql(SEARCH_FILTER, true);
+
+    // id 묶음 IN 조회(검색 후보, 변경분): 개수를 2 의 거듭제곱 칸으로 올려서(남는 자리는 마지막 id 반복) SQL 종류를 몇
+    // 개로 묶는다
+    private static final int MIN_IN_BUCKET = 16;
+    private static final Map<Integer, String> BY_IDS_BY_BUCKET = new ConcurrentHashMap<>();
+    private static final Map<Integer, String> STATES_IN_BY_BUCKET = new ConcurrentHashMap<>();
+
+    private static String feedSql(String filter, boolean before) {
+        StringBuilder sql = new StringBuilder(FEED_SELECT);
+        List<String> where = new ArrayList<>();
+        if (filter != null)
+            where.add(filter);
+        if (before)
+            where.add("p.Post_id < ?");
+        if (!where.isEmpty())
+            sql.append("WHERE ").append(String.join(" AND ", where)).append('\n');
+        sql.append("ORDER BY p.Post_id DESC\nLIMIT ?");
+        return sql.toString();
+    }
+
+    private static String byIdsSql(int bucket) {
+        return BY_IDS_BY_BUCKET.computeIfAbsent(bucket, n -> feedSql("p.Post_id IN (" + inList(n) + ")", false));
+    }
+
+    // 한 사용자의 반응을 글 id 묶음으로 조회: PK(User_id, Post_id) 로 바로 찾아간다
+    private static String statesInSql(int bucket) {
+        return STATES_IN_BY_BUCKET.computeIfAbsent(bucket,
+                n -> "SELECT Post_id, Type FROM REACTION WHERE User_id = ? AND Post_id IN (" + inList(n) + ")");
+    }
+
+    private static String inList(int n) {
+        return String.join(",", Collections.nCopies(n, "?"));
+    }
+
+    /** n 개를 담을 IN 칸 수 (MIN_IN_BUCKET 이상의 2 의 거듭제곱) */
+    private static int inBucket(int n) {
+        return Math.max(MIN_IN_BUCKET, Integer.highestOneBit(Math.max(n - 1, 1)) << 1);
+    }
+
     @Override
-    public List<PostView> listRecent(int requesterId, int limit) {
-        String sql = """
-                    SELECT p.Post_id, p.User_id AS authorId, u.Name AS authorName,
-                           p.Post_context,
-                           p.File_path, p.File_name,
-                           DATE_FORMAT(p.Upload_time, '%Y-%m-%d %H:%i') AS uploadTime,
-                           (SELECT COUNT(*) FROM REACTION r WHERE r.Post_id=p.Post_id AND r.Type='LIKE') AS likeCount,
-                           (SELECT COUNT(*) FROM REACTION r WHERE r.Post_id=p.Post_id AND r.Type='DISLIKE') AS dislikeCount,
-                           (SELECT Type FROM REACTION r WHERE r.Post_id=p.Post_id AND r.User_id=? LIMIT 1) AS myState
-                    FROM POST p
-                    JOIN USER u ON p.User_id = u.User_id
-                    ORDER BY p.Post_id DESC
-                    LIMIT ?
-                """;
-        List<PostView> list = new ArrayList<>();
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setInt(1, requesterId);
-            ps.setInt(2, limit);
-            ResultSet rs = ps.executeQuery();
-            while (rs.next()) {
-                list.add(new PostView(rs.getInt("Post_id"), rs.getInt("authorId"), rs.getString("authorName"),
-                        rs.getString("Post_context"), // 본문 내용
-                        rs.getString("File_path"), rs.getString("File_name"), rs.getString("uploadTime"),
-                        rs.getInt("likeCount"), rs.getInt("dislikeCount"),
-                        Optional.ofNullable(rs.getString("myState")).orElse("NONE")));
+    public List<PostView> listRecentPage(int requesterId, int beforePostId, int limit) {
+        try (Connection conn = pool.getConnection()) {
+            List<PostView> page = queryFeed(conn, beforePostId > 0 ? RECENT_BEFORE : RECENT_FIRST, List.of(),
+                    beforePostId, limit);
+            return withMyStates(conn, requesterId, page);
+        } catch (SQLException e) {
+            throw new SnsException("게시글 조회 실패", e);
+        }
+    }
+
+    @Override
+    public List<PostView> searchPage(int requesterId, String keyword, int beforePostId, int limit) {
+        int[] ids = searchIndex.isReady()
+                ? searchIndex.candidates(keyword, beforePostId, Math.max(limit, MIN_IN_BUCKET))
+                : null;
+        try (Connection conn = pool.getConnection()) {
+            if (ids == null) {
+                // 색인 적재 전이거나 한 글자 검색 → 기존 LIKE 스캔
+                String searchPattern = "%" + keyword + "%";
+                List<PostView> page = queryFeed(conn, beforePostId > 0 ? SEARCH_BEFORE : SEARCH_FIRST,
+                        List.of(searchPattern, searchPattern, searchPattern), beforePostId, limit);
+                return withMyStates(conn, requesterId, page);
+            }
+
+            // 후보 id 를 최신순으로 조금씩 받아 IN 조회로 채우고, 실제 값으로 최종 확인. 모자라면 마지막 후보 다음부터
+            List<PostView> list = new ArrayList<>();
+            while (ids.length > 0) {
+                int n = ids.length;
+                int bucket = inBucket(n);
+                List<Object> params = new ArrayList<>(bucket);
+                for (int i = 0; i < bucket; i++)
+                    params.add(ids[Math.min(i, n - 1)]);
+                for (PostView p : queryFeed(conn, byIdsSql(bucket), params, 0, n)) {
+                    if (list.size() < limit
+                            && PostSearchIndex.matches(keyword, p.content(), p.fileName(), p.authorName()))
+                        list.add(p);
+                }
+                if (list.size() >= limit)
+                    break;
+                ids = searchIndex.candidates(keyword, ids[n - 1], Math.max(limit - list.size(), MIN_IN_BUCKET));
             }
+            return withMyStates(conn, requesterId, list); // 최종 확인을 통과한 글만
         } catch (SQLException e) {
-            e.printStackTrace();
+            throw new SnsException("게시글 조회 실패", e);
         }
-        return list;
     }
 
+    /* ========== Feed 변경분 (새로고침/폴링) ========== */
+
+    // 기준점을 서버 시각보다 이만큼 늦게 잡는다. Change_time 은 커밋 시각이 아니라 문장 실행 시각이라서, 조회 직전에
+    // 바뀌고 조회 뒤에 커밋된 글도 다음 조회에서 잡히도록. 그 구간의 변경은 두 번 갈 수 있지만 받는 쪽은 id 로 덮어쓴다.
+    private static final long WATERMARK_LAG_MILLIS = 2_000;
+    // 묘비 보관 기간: 이보다 오래된 기준점은 지워진 글을 놓칠 수 있으므로 reset 으로 돌려보낸다
+    private static final long TOMBSTONE_RETENTION_MILLIS = 7L * 24 * 60 * 60 * 1000;
+
+    // 바뀐 글/지워진 글 id 만 Change_time, Deleted_time 색인 구간으로 읽는다. 서버 시각을 한 행 깔고 LEFT JOIN 하므로
+    // 변경이 없어도 기준점은 같은 조회 한 번으로 받는다.
+    private static final String CHANGES_SQL = """
+                SELECT n.serverNow, c.Post_id, c.deleted
+                FROM (SELECT NOW(3) AS serverNow) n
+                LEFT JOIN (
+                    SELECT Post_id, 0 AS deleted FROM POST WHERE Change_time > ?
+                    UNION ALL
+                    SELECT Post_id, 1 AS deleted FROM POST_TOMBSTONE WHERE Deleted_time > ?
+                ) c ON 1 = 1
+                LIMIT ?
+            """;
+
     @Override
-    public List<PostView> search(int requesterId, String keyword, int limit) {
+    public FeedDelta changesSince(int requesterId, long since, int limit) {
+        try (Connection conn = pool.getConnection()) {
+            if (since <= 0)
+                return new FeedDelta(List.of(), List.of(), serverNow(conn) - WATERMARK_LAG_MILLIS, true);
+
+            long now = 0;
+            int total = 0;
+            SortedSet<Integer> changedIds = new TreeSet<>(Comparator.reverseOrder());
+            List<Integer> deletedIds = new ArrayList<>();
+            try (PreparedStatement ps = conn.prepareStatement(CHANGES_SQL)) {
+                Timestamp from = new Timestamp(since);
+                ps.setTimestamp(1, from);
+                ps.setTimestamp(2, from);
+                ps.setInt(3, limit + 1); // 하나 더 읽어서 넘치는지 확인
+                ResultSet rs = ps.executeQuery();
+                while (rs.next()) {
+                    now = rs.getTimestamp(1).getTime();
+                    int postId = rs.getInt(2);
+                    if (rs.wasNull())
+                        continue; // 변경 없음 (서버 시각 행만)
+                    total++;
+                    if (rs.getInt(3) == 1)
+                        deletedIds.add(postId);
+                    else
+                        changedIds.add(postId);
+                }
+            }
+            long watermark = now - WATERMARK_LAG_MILLIS;
+            if (total > limit || since < now - TOMBSTONE_RETENTION_MILLIS)
+                return new FeedDelta(List.of(), List.of(), watermark, true);
+            changedIds.removeAll(deletedIds); // 바뀐 뒤 지워졌으면 삭제만
+            for (int postId : deletedIds)
+                searchIndex.remove(postId); // 다른 클라이언트가 지운 글도 검색 색인에서 뺀다
+            if (changedIds.isEmpty())
+                return new FeedDelta(List.of(), deletedIds, watermark, false);
+
+            // 바뀐 글 본문은 id IN 조회로 (검색과 같은 버킷 SQL), 그 사이 지워진 글은 빠진다
+            int[] ids = changedIds.stream().mapToInt(Integer::intValue).toArray();
+            List<PostView> changed = new ArrayList<>(ids.length);
+            for (int pos = 0; pos < ids.length;) {
+                int n = Math.min(ids.length - pos, 1 << 10);
+                int bucket = inBucket(n);
+                List<Object> params = new ArrayList<>(bucket);
+                for (int i = 0; i < bucket; i++)
+                    params.add(ids[pos + Math.min(i, n - 1)]);
+                pos += n;
+                changed.addAll(queryFeed(conn, byIdsSql(bucket), params, 0, n));
+            }
+            for (PostView p : changed)
+                searchIndex.add(p.postId(), p.content(), p.fileName(), p.authorName());
+            return new FeedDelta(withMyStates(conn, requesterId, changed), deletedIds, watermark, false);
+        } catch (SQLException e) {
+            throw new SnsException("변경분 조회 실패", e);
+        }
+    }
+
+    private static long serverNow(Connection conn) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement("SELECT NOW(3)"); ResultSet rs = ps.executeQuery()) {
+            rs.next();
+            return rs.getTimestamp(1).getTime();
+        }
+    }
+
+    /** 보관 기간이 지난 묘비 정리, 지운 행 수를 반환한다 (App 에서 주기적으로 실행) */
+    public int purgeTombstones() {
+        String sql = "DELETE FROM POST_TOMBSTONE WHERE Deleted_time < NOW(3) - INTERVAL ? SECOND";
+        try (Connection conn = pool.getConnection(); PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setLong(1, TOMBSTONE_RETENTION_MILLIS / 1000);
+            return ps.executeUpdate();
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return 0;
+        }
+    }
+
+    /** 시작 시 POST 전체를 Post_id 구간 단위로 읽어서 검색 색인을 만든다 */
+    private void buildSearchIndex() {
         String sql = """
-                    SELECT p.Post_id, p.User_id AS authorId, u.Name AS authorName,
-                           p.Post_context,
-                           p.File_path, p.File_name,
-                           DATE_FORMAT(p.Upload_time, '%Y-%m-%d %H:%i') AS uploadTime,
-                           (SELECT COUNT(*) FROM REACTION r WHERE r.Post_id=p.Post_id AND r.Type='LIKE') AS likeCount,
-                           (SELECT COUNT(*) FROM REACTION r WHERE r.Post_id=p.Post_id AND r.Type='DISLIKE') AS dislikeCount,
-                           (SELECT Type FROM REACTION r WHERE r.Post_id=p.Post_id AND r.User_id=? LIMIT 1) AS myState
+                    SELECT p.Post_id, p.Post_context, p.File_name, u.Name
                     FROM POST p
                     JOIN USER u ON p.User_id = u.User_id
-                    WHERE p.Post_context LIKE ? OR p.File_name LIKE ? OR u.Name LIKE ?
-                    ORDER BY p.Post_id DESC
+                    WHERE p.Post_id > ?
+                    ORDER BY p.Post_id
                     LIMIT ?
                 """;
+        final int chunk = 10_000;
+        int last = 0;
+        try (Connection conn = pool.getConnection(); PreparedStatement ps = conn.prepareStatement(sql)) {
+            while (true) {
+                ps.setInt(1, last);
+                ps.setInt(2, chunk);
+                int n = 0;
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        last = rs.getInt(1);
+                        searchIndex.add(last, rs.getString(2), rs.getString(3), rs.getString(4));
+                        n++;
+                    }
+                }
+                if (n < chunk)
+                    break;
+            }
+            searchIndex.markReady();
+        } catch (SQLException e) {
+            // 색인 없이도 LIKE 검색으로 동작하므로 치명적이지 않음
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * 키셋 페이지네이션: OFFSET 대신 "Post_id < 마지막으로 본 id" 조건으로 PK 인덱스를 타고 내려가므로, 몇 페이지를
+     * 넘기든 한 번의 조회 비용은 페이지 크기에만 비례한다. 내 반응 상태는 비워 둔 채("NONE") 돌려준다.
+     */
+    private static List<PostView> queryFeed(Connection conn, String sql, List<?> filterParams, int beforePostId,
+            int limit) throws SQLException {
         List<PostView> list = new ArrayList<>();
         try (PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setInt(1, requesterId);
-            String searchPattern = "%" + keyword + "%";
-            ps.setString(2, searchPattern);
-            ps.setString(3, searchPattern);
-            ps.setString(4, searchPattern);
-            ps.setInt(5, limit);
+            int i = 1;
+            for (Object param : filterParams)
+                ps.setObject(i++, param);
+            if (beforePostId > 0)
+                ps.setInt(i++, beforePostId);
+            ps.setInt(i, limit);
 
             ResultSet rs = ps.executeQuery();
             while (rs.next()) {
-                list.add(new PostView(rs.getInt("Post_id"), rs.getInt("authorId"), rs.getString("authorName"),
-                        rs.getString("Post_context"), // 본문 내용
-                        rs.getString("File_path"), rs.getString("File_name"), rs.getString("uploadTime"),
-                        rs.getInt("likeCount"), rs.getInt("dislikeCount"),
-                        Optional.ofNullable(rs.getString("myState")).orElse("NONE")));
+                list.add(readPost(rs, "NONE"));
             }
-        } catch (SQLException e) {
-            e.printStackTrace();
         }
         return list;
     }
 
+    /**
+     * 페이지의 글들에 대한 requester 의 반응을 IN 조회 한 번으로 채운다 (행마다 도는 상관 하위 조회 대신).
+     * IN 칸 수는 검색과 같은 2 의 거듭제곱 버킷으로 맞춰서 문장 캐시를 그대로 탄다.
+     */
+    private static List<PostView> withMyStates(Connection conn, int requesterId, List<PostView> page)
+            throws SQLException {
+        if (page.isEmpty())
+            return page;
+        Map<Integer, String> states = new HashMap<>();
+        for (int pos = 0; pos < page.size();) {
+            int n = Math.min(page.size() - pos, 1 << 10);
+            int bucket = inBucket(n);
+            try (PreparedStatement ps = conn.prepareStatement(statesInSql(bucket))) {
+                ps.setInt(1, requesterId);
+                for (int i = 0; i < bucket; i++)
+                    ps.setInt(i + 2, page.get(pos + Math.min(i, n - 1)).postId());
+                ResultSet rs = ps.executeQuery();
+                while (rs.next()) {
+                    states.put(rs.getInt(1), rs.getString(2));
+                }
+            }
+            pos += n;
+        }
+        if (states.isEmpty())
+            return page;
+        List<PostView> out = new ArrayList<>(page.size());
+        for (PostView p : page) {
+            String state = states.get(p.postId());
+            out.add(state == null ? p : p.withMyState(state));
+        }
+        return out;
+    }
+
+    private static PostView readPost(ResultSet rs, String myState) throws SQLException {
+        return new PostView(rs.getInt("Post_id"), rs.getInt("authorId"), rs.getString("authorName"),
+                rs.getString("Post_context"), // 본문 내용
+                rs.getString("File_path"), rs.getString("File_name"), rs.getString("uploadTime"),
+                rs.getInt("likeCount"), rs.getInt("dislikeCount"), rs.getInt("commentCount"), myState);
+    }
+
     /* ========== Reaction (좋아요/싫어요) ========== */
 
     @Override
-    public String toggleReaction(int userId, int postId, String type) {
-        String sqlCheck = "SELECT Type FROM REACTION WHERE User_id=? AND Post_id=?";
-        try (PreparedStatement ps = conn.prepareStatement(sqlCheck)) {
-            ps.setInt(1, userId);
-            ps.setInt(2, postId);
-            ResultSet rs = ps.executeQuery();
-            if (rs.next()) {
-                String prev = rs.getString("Type");
-                if (prev.equals(type)) {
-                    // 삭제
-                    try (PreparedStatement del = conn
-                            .prepareStatement("DELETE FROM REACTION WHERE User_id=? AND Post_id=?")) {
-                        del.setInt(1, userId);
-                        del.setInt(2, postId);
-                        del.executeUpdate();
-                        return "NONE";
-                    }
-                } else {
-                    // 수정
-                    try (PreparedStatement up = conn
-                            .prepareStatement("UPDATE REACTION SET Type=? WHERE User_id=? AND Post_id=?")) {
-                        up.setString(1, type);
-                        up.setInt(2, userId);
-                        up.setInt(3, postId);
-                        up.executeUpdate();
-                        return type;
-                    }
-                }
-            } else {
-                // 추가
-                try (PreparedStatement ins = conn
-                        .prepareStatement("INSERT INTO REACTION(User_id, Post_id, Type) VALUES (?,?,?)")) {
-                    ins.setInt(1, userId);
-                    ins.setInt(2, postId);
-                    ins.setString(3, type);
-                    ins.executeUpdate();
-                    return type;
+    public ReactionView toggleReaction(int userId, int postId, String type) {
+        // 조건부 DELETE / UPSERT + 카운터 갱신을 프로시저 한 번 호출(한 트랜잭션)로 처리 (SNS.sql 참고)
+        try (Connection conn = pool.getConnection();
+                CallableStatement cs = conn.prepareCall("{CALL toggle_reaction(?, ?, ?)}")) {
+            cs.setInt(1, userId);
+            cs.setInt(2, postId);
+            cs.setString(3, type);
+            ResultSet rs = cs.executeQuery();
+            if (!rs.next())
+                throw new SnsException("반응 처리 실패: 게시글이 없습니다.", null);
+            return new ReactionView(postId, rs.getString("myState"), rs.getInt("likeCount"),
+                    rs.getInt("dislikeCount"));
+        } catch (SQLException e) {
+            throw new SnsException("반응 처리 실패", e);
+        }
+    }
+
+    /**
+     * 카운터 보정 작업: REACTION 을 다시 집계해서 어긋난 POST 카운터만 고친다. 긴 잠금을 피하려고 Post_id 구간 단위로
+     * 나눠서 처리하며, 고친 글 수를 반환한다. (App 에서 주기적으로 실행)
+     */
+    public int reconcileReactionCounts() {
+        final int chunk = 5_000;
+        String sql = """
+                    UPDATE POST p
+                    JOIN (
+                        SELECT p2.Post_id,
+                               COUNT(CASE WHEN r.Type='LIKE' THEN 1 END) AS likes,
+                               COUNT(CASE WHEN r.Type='DISLIKE' THEN 1 END) AS dislikes
+                        FROM POST p2
+                        LEFT JOIN REACTION r ON r.Post_id = p2.Post_id
+                        WHERE p2.Post_id > ? AND p2.Post_id <= ?
+                        GROUP BY p2.Post_id
+                    ) c ON c.Post_id = p.Post_id
+                    SET p.Like_count = c.likes, p.Dislike_count = c.dislikes, p.Update_time = p.Update_time
+                    WHERE p.Like_count <> c.likes OR p.Dislike_count <> c.dislikes
+                """;
+        return reconcileInChunks(sql, chunk);
+    }
+
+    /** 댓글 카운터 보정 (reconcileReactionCounts 와 같은 방식, COMMENT 의 (Post_id, Comment_id) 인덱스만 읽음) */
+    public int reconcileCommentCounts() {
+        final int chunk = 5_000;
+        String sql = """
+                    UPDATE POST p
+                    JOIN (
+                        SELECT p2.Post_id, COUNT(c.Comment_id) AS comments
+                        FROM POST p2
+                        LEFT JOIN COMMENT c ON c.Post_id = p2.Post_id
+                        WHERE p2.Post_id > ? AND p2.Post_id <= ?
+                        GROUP BY p2.Post_id
+                    ) c ON c.Post_id = p.Post_id
+                    SET p.Comment_count = c.comments, p.Update_time = p.Update_time
+                    WHERE p.Comment_count <> c.comments
+                """;
+        return reconcileInChunks(sql, chunk);
+    }
+
+    /** (from, from + chunk] 구간 파라미터 두 개를 받는 보정 UPDATE 를 MAX(Post_id) 까지 반복 */
+    private int reconcileInChunks(String sql, int chunk) {
+        int fixed = 0;
+        try (Connection conn = pool.getConnection()) {
+            int maxId;
+            try (Statement st = conn.createStatement();
+                    ResultSet rs = st.executeQuery("SELECT COALESCE(MAX(Post_id), 0) FROM POST")) {
+                rs.next();
+                maxId = rs.getInt(1);
+            }
+            try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                for (int from = 0; from < maxId; from += chunk) {
+                    ps.setInt(1, from);
+                    ps.setInt(2, from + chunk);
+                    fixed += ps.executeUpdate();
                 }
             }
         } catch (SQLException e) {
             e.printStackTrace();
         }
-        return "NONE";
+        return fixed;
     }
 
     /* ========== Post Creation (글쓰기) ========== */
 
     @Override
-    public void createPost(int userId, String filePath, String fileName, String text) {
-        String sql = "INSERT INTO POST(User_id, File_path, File_name, Post_context, Upload_time) VALUES (?, ?, ?, ?, NOW())";
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setInt(1, userId);
-            ps.setString(2, filePath);
-            ps.setString(3, fileName);
-            ps.setString(4, text);
-            ps.executeUpdate();
+    public PostView createPost(int userId, String filePath, String fileName, String text) {
+        // INSERT 와 새 행 조회를 프로시저 한 번 호출로 (작성자명까지 받아서 바로 목록/색인에 반영)
+        try (Connection conn = pool.getConnection();
+                CallableStatement cs = conn.prepareCall("{CALL create_post(?, ?, ?, ?)}")) {
+            cs.setInt(1, userId);
+            cs.setString(2, filePath);
+            cs.setString(3, fileName);
+            cs.setString(4, text);
+            ResultSet rs = cs.executeQuery();
+            if (!rs.next())
+                throw new SnsException("게시글 작성 실패", null);
+            PostView post = readPost(rs, "NONE"); // 새 글이므로 반응 없음
+            searchIndex.add(post.postId(), post.content(), post.fileName(), post.authorName());
+            return post;
         } catch (SQLException e) {
-            e.printStackTrace();
+            throw new SnsException("게시글 작성 실패", e);
         }
     }
 
     @Override
-    public void createPost(int userId, String filePath, String fileName) {
-        createPost(userId, filePath, fileName, "");
+    public PostView createPost(int userId, String filePath, String fileName) {
+        return createPost(userId, filePath, fileName, "");
     }
 
     /* ========== Comments (댓글 기능 추가) ========== */
 
+    // 댓글 키셋 페이지: (Post_id, Comment_id) 인덱스를 Comment_id 내림차순으로 타고 내려가며 limit 개만 읽는다
+    private static final String COMMENT_SELECT = """
+                SELECT c.Comment_id, u.Name, c.Comment,
+                       DATE_FORMAT(c.Upload_time, '%Y-%m-%d %H:%i') AS time
+                FROM COMMENT c
+                JOIN USER u ON c.User_id = u.User_id
+            """;
+    private static final String COMMENTS_FIRST = COMMENT_SELECT + """
+                WHERE c.Post_id = ?
+                ORDER BY c.Comment_id DESC
+                LIMIT ?
+            """;
+    private static final String COMMENTS_BEFORE = COMMENT_SELECT + """
+                WHERE c.Post_id = ? AND c.Comment_id < ?
+                ORDER BY c.Comment_id DESC
+                LIMIT ?
+            """;
+
     @Override
-    public List<CommentView> listComments(int postId) {
-        String sql = """
-                    SELECT c.Comment_id, u.Name, c.Comment,
-                           DATE_FORMAT(c.Upload_time, '%Y-%m-%d %H:%i') AS time
-                    FROM COMMENT c
-                    JOIN USER u ON c.User_id = u.User_id
-                    WHERE c.Post_id = ?
-                    ORDER BY c.Upload_time ASC
-                """;
+    public List<CommentView> listCommentsPage(int postId, int beforeCommentId, int limit) {
         List<CommentView> list = new ArrayList<>();
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setInt(1, postId);
+        try (Connection conn = pool.getConnection();
+                PreparedStatement ps = conn.prepareStatement(beforeCommentId > 0 ? COMMENTS_BEFORE : COMMENTS_FIRST)) {
+            int i = 1;
+            ps.setInt(i++, postId);
+            if (beforeCommentId > 0)
+                ps.setInt(i++, beforeCommentId);
+            ps.setInt(i, limit);
             ResultSet rs = ps.executeQuery();
             while (rs.next()) {
-                list.add(new CommentView(rs.getInt("Comment_id"), rs.getString("Name"), rs.getString("Comment"),
-                        rs.getString("time")));
+                list.add(readComment(rs));
             }
         } catch (SQLException e) {
-            e.printStackTrace();
+            throw new SnsException("댓글 조회 실패", e);
         }
         return list;
     }
 
     @Override
-    public void addComment(int userId, int postId, String content) {
-        String sql = "INSERT INTO COMMENT(User_id, Post_id, Comment, Upload_time) VALUES (?, ?, ?, NOW())";
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setInt(1, userId);
-            ps.setInt(2, postId);
-            ps.setString(3, content);
-            ps.executeUpdate();
+    public CommentView addComment(int userId, int postId, String content) {
+        // INSERT 와 새 행 조회를 프로시저 한 번 호출로 (SNS.sql 의 add_comment)
+        try (Connection conn = pool.getConnection();
+                CallableStatement cs = conn.prepareCall("{CALL add_comment(?, ?, ?)}")) {
+            cs.setInt(1, userId);
+            cs.setInt(2, postId);
+            cs.setString(3, content);
+            ResultSet rs = cs.executeQuery();
+            if (!rs.next())
+                throw new SnsException("댓글 작성 실패", null);
+            return readComment(rs);
         } catch (SQLException e) {
-            e.printStackTrace();
+            throw new SnsException("댓글 작성 실패", e);
         }
     }
 
+    private static CommentView readComment(ResultSet rs) throws SQLException {
+        return new CommentView(rs.getInt("Comment_id"), rs.getString("Name"), rs.getString("Comment"),
+                rs.getString("time"));
+    }
+
     @Override
-    public void deletePost(int userId, int postId) {
+    public boolean deletePost(int userId, int postId) {
         // 내 글인지 확인(User_id=?)하고 삭제
         String sql = "DELETE FROM POST WHERE Post_id=? AND User_id=?";
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+        try (Connection conn = pool.getConnection(); PreparedStatement ps = conn.prepareStatement(sql)) {
             ps.setInt(1, postId);
             ps.setInt(2, userId);
-            ps.executeUpdate();
+            boolean deleted = ps.executeUpdate() > 0;
+            if (deleted)
+                searchIndex.remove(postId);
+            return deleted;
         } catch (SQLException e) {
-            e.printStackTrace();
+            throw new SnsException("게시글 삭제 실패", e);
         }
     }
 
     @Override
-    public void updatePost(int userId, int postId, String newContent) {
+    public boolean updatePost(int userId, int postId, String newContent) {
         // 내 글인지 확인하고 내용과 수정시간 업데이트
         String sql = "UPDATE POST SET Post_context=?, Update_time=NOW() WHERE Post_id=? AND User_id=?";
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+        try (Connection conn = pool.getConnection(); PreparedStatement ps = conn.prepareStatement(sql)) {
             ps.setString(1, newContent);
             ps.setInt(2, postId);
             ps.setInt(3, userId);
-            ps.executeUpdate();
+            boolean updated = ps.executeUpdate() > 0;
+            if (updated)
+                searchIndex.add(postId, newContent); // 예전 gram 은 검색 시 확인 단계에서 걸러짐
+            return updated;
         } catch (SQLException e) {
-            e.printStackTrace();
+            throw new SnsException("게시글 수정 실패", e);
         }
     }
 }
\ No newline at end of file
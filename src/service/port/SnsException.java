@@ -0,0 +1,8 @@
+package service.port;
+
+/** 포트 구현에서 발생한 DB 오류 (SQLException 을 감싸서 UI 까지 전달) */
+public class SnsException extends RuntimeException {
+    public SnsException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
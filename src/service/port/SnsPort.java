@@ -7,8 +7,45 @@ public interface SnsPort {
     record UserView(int userId, String userName) {
     }
 
+    /** commentCount 는 POST.Comment_count 비정규화 카운터 (댓글 수와 무관하게 조회 비용 일정) */
     record PostView(int postId, int authorId, String authorName, String content, String filePath, String fileName,
-            String uploadTime, int likeCount, int dislikeCount, String myState) {
+            String uploadTime, int likeCount, int dislikeCount, int commentCount, String myState) {
+
+        /** 반응 토글 결과를 반영한 사본 */
+        public PostView withReaction(ReactionView r) {
+            return new PostView(postId, authorId, authorName, content, filePath, fileName, uploadTime, r.likeCount(),
+                    r.dislikeCount(), commentCount, r.myState());
+        }
+
+        /** 본문만 바꾼 사본 */
+        public PostView withContent(String newContent) {
+            return new PostView(postId, authorId, authorName, newContent, filePath, fileName, uploadTime, likeCount,
+                    dislikeCount, commentCount, myState);
+        }
+
+        /** 댓글 수만 바꾼 사본 */
+        public PostView withCommentCount(int count) {
+            return new PostView(postId, authorId, authorName, content, filePath, fileName, uploadTime, likeCount,
+                    dislikeCount, count, myState);
+        }
+
+        /** 보는 사람의 반응 상태만 바꾼 사본 */
+        public PostView withMyState(String state) {
+            return new PostView(postId, authorId, authorName, content, filePath, fileName, uploadTime, likeCount,
+                    dislikeCount, commentCount, state);
+        }
+    }
+
+    /** 반응 토글 결과: 바뀐 글의 내 상태와 카운터 (목록의 해당 행만 갱신하는 데 사용) */
+    record ReactionView(int postId, String myState, int likeCount, int dislikeCount) {
+    }
+
+    /**
+     * 피드 변경분: since 이후 새로 쓰였거나 바뀐 글(최신순)과 지워진 글 id. watermark 는 다음 changesSince 에 그대로 넘긴다
+     * (값의 의미는 구현마다 다름). reset 이면 변경분으로는 따라잡을 수 없으니(기준점이 없거나, 너무 오래됐거나, 변경이
+     * limit 보다 많음) 목록을 처음부터 다시 읽어야 한다.
+     */
+    record FeedDelta(List<PostView> changed, List<Integer> deletedIds, long watermark, boolean reset) {
     }
 
     // ★ [추가] 댓글용 데이터 구조
@@ -31,26 +68,51 @@ public interface SnsPort {
     }
 
     // --- Feed ---
-    List<PostView> listRecent(int requesterId, int limit);
+    default List<PostView> listRecent(int requesterId, int limit) {
+        return listRecentPage(requesterId, 0, limit);
+    }
+
+    default List<PostView> search(int requesterId, String keyword, int limit) {
+        return searchPage(requesterId, keyword, 0, limit);
+    }
+
+    /**
+     * 키셋 페이지 조회: Post_id 가 beforePostId 보다 작은 글을 최신순으로 limit 개. beforePostId 가 0 이면 첫 페이지. 다음
+     * 페이지는 마지막으로 받은 글의 postId 를 넘기면 된다.
+     */
+    List<PostView> listRecentPage(int requesterId, int beforePostId, int limit);
+
+    /** 검색 결과 키셋 페이지 (규칙은 listRecentPage 와 동일) */
+    List<PostView> searchPage(int requesterId, String keyword, int beforePostId, int limit);
 
-    List<PostView> search(int requesterId, String keyword, int limit);
+    /**
+     * since 이후의 피드 변경분 (최대 limit 건). since 가 0 이면 현재 기준점만 돌려준다 (reset). 목록을 읽기 전에 기준점을 받아
+     * 두면 그 사이의 변경도 다음 호출에서 받는다. 바뀐 것이 없으면 작은 색인 조회 한 번으로 끝난다.
+     */
+    FeedDelta changesSince(int requesterId, long since, int limit);
 
-    String toggleReaction(int userId, int postId, String type);
+    ReactionView toggleReaction(int userId, int postId, String type);
 
-    void createPost(int userId, String filePath, String fileName, String text);
+    /** 글 작성 후 새 글을 그대로 돌려준다 (목록을 다시 조회하지 않고 바로 끼워 넣을 수 있도록) */
+    PostView createPost(int userId, String filePath, String fileName, String text);
 
-    default void createPost(int userId, String filePath, String fileName) {
-        createPost(userId, filePath, fileName, "");
+    default PostView createPost(int userId, String filePath, String fileName) {
+        return createPost(userId, filePath, fileName, "");
     }
 
     // ★ [추가] 댓글 목록 조회 및 작성 메서드
-    List<CommentView> listComments(int postId);
+    /**
+     * 댓글 키셋 페이지: Comment_id 가 beforeCommentId 보다 작은 댓글을 최신순으로 limit 개. beforeCommentId 가 0 이면 가장
+     * 최근 댓글부터. 더 오래된 댓글은 마지막으로 받은 댓글의 id 를 넘기면 된다.
+     */
+    List<CommentView> listCommentsPage(int postId, int beforeCommentId, int limit);
 
-    void addComment(int userId, int postId, String content);
+    /** 댓글 작성 후 새 댓글을 그대로 돌려준다 (목록을 다시 조회하지 않고 바로 덧붙일 수 있도록) */
+    CommentView addComment(int userId, int postId, String content);
 
-    /** 게시글 삭제 (본인 글만 삭제 가능하도록 userId 받음) */
-    void deletePost(int userId, int postId);
+    /** 게시글 삭제 (본인 글만 삭제 가능하도록 userId 받음). 실제로 지워졌으면 true */
+    boolean deletePost(int userId, int postId);
 
-    /** 게시글 수정 (내용만 수정) */
-    void updatePost(int userId, int postId, String newContent);
+    /** 게시글 수정 (내용만 수정). 실제로 바뀌었으면 true */
+    boolean updatePost(int userId, int postId, String newContent);
 }
\ No newline at end of file
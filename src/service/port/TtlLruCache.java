@@ -0,0 +1,85 @@
+package service.port;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+
+/** 크기 제한(LRU) + 만료 시간(TTL)이 있는 단순 캐시. 모든 메서드는 동기화되어 있음 */
+final class TtlLruCache<K, V> {
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private long evictions;
+    private long expirations;
+
+    private final LinkedHashMap<K, Entry<V>> map;
+
+    TtlLruCache(int maxEntries, long ttlMillis) {
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttlMillis * 1_000_000L;
+        // accessOrder=true → get 할 때마다 뒤로 이동, 가장 오래 안 쓴 항목이 맨 앞
+        this.map = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > TtlLruCache.this.maxEntries) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /** 없거나 만료됐으면 null */
+    synchronized V get(K key) {
+        Entry<V> e = map.get(key);
+        if (e == null)
+            return null;
+        if (e.expiresAt - System.nanoTime() < 0) {
+            map.remove(key);
+            expirations++;
+            return null;
+        }
+        return e.value;
+    }
+
+    synchronized void put(K key, V value) {
+        map.put(key, new Entry<>(value, System.nanoTime() + ttlNanos));
+    }
+
+    synchronized void invalidateIf(BiPredicate<K, V> condition) {
+        map.entrySet().removeIf(e -> condition.test(e.getKey(), e.getValue().value));
+    }
+
+    /** 값만 바꾸고 만료 시각은 그대로 둔다 (fn 이 같은 객체를 돌려주면 변경 없음) */
+    synchronized void replaceValues(BiFunction<K, V, V> fn) {
+        for (Iterator<Map.Entry<K, Entry<V>>> it = map.entrySet().iterator(); it.hasNext();) {
+            Map.Entry<K, Entry<V>> e = it.next();
+            V old = e.getValue().value;
+            V updated = fn.apply(e.getKey(), old);
+            if (updated != old)
+                e.setValue(new Entry<>(updated, e.getValue().expiresAt));
+        }
+    }
+
+    synchronized void clear() {
+        map.clear();
+    }
+
+    synchronized int size() {
+        return map.size();
+    }
+
+    synchronized long evictions() {
+        return evictions;
+    }
+
+    synchronized long expirations() {
+        return expirations;
+    }
+}
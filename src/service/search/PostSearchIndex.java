@@ -0,0 +1,202 @@
+package service.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 검색용 메모리 n-gram 역색인.
+ * <p>
+ * 본문/파일명/작성자명을 정규화(NFKC + 소문자 + 공백 제거)한 뒤 2-gram, 3-gram 단위로 잘라서 gram → Post_id 목록을
+ * 들고 있는다. 한글은 형태소 분석 없이도 음절 n-gram 으로 부분 검색이 잘 되고, 띄어쓰기가 달라도("고양이 보고" / "고양이보고")
+ * 찾을 수 있다.
+ * <p>
+ * 색인은 후보만 돌려준다. n-gram 교집합에는 거짓 양성이 있을 수 있으므로 호출자가 실제 행을 받아서 {@link #matches} 로
+ * 최종 확인해야 한다. 덕분에 글 수정 시 예전 gram 을 지우지 않아도 되고(확인 단계에서 걸러짐), 삭제는 tombstone 으로만
+ * 처리한다.
+ */
+public class PostSearchIndex {
+
+    /** 색인으로 검색 가능한 최소 키워드 길이 (정규화 후). 이보다 짧으면 호출자가 LIKE 로 대체 */
+    public static final int MIN_QUERY_LENGTH = 2;
+
+    private final Map<String, IntList> postings = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+    private final ReentrantReadWriteLock rw = new ReentrantReadWriteLock();
+    private volatile boolean ready;
+
+    /** 시작 시 전체 적재가 끝났는지 (그 전까지는 호출자가 LIKE 로 대체) */
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void markReady() {
+        ready = true;
+    }
+
+    /** 글 추가/수정 시 호출. 같은 글을 다시 넣어도 된다 (gram 이 합쳐짐) */
+    public void add(int postId, String... fields) {
+        Set<String> grams = new HashSet<>();
+        for (String f : fields)
+            collectGrams(normalize(f), grams);
+        rw.writeLock().lock();
+        try {
+            deleted.clear(postId);
+            for (String g : grams)
+                postings.computeIfAbsent(g, k -> new IntList()).add(postId);
+        } finally {
+            rw.writeLock().unlock();
+        }
+    }
+
+    public void remove(int postId) {
+        rw.writeLock().lock();
+        try {
+            deleted.set(postId);
+        } finally {
+            rw.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 키워드 후보 Post_id 를 최신순(내림차순)으로 최대 max 개 반환. beforePostId 가 0 보다 크면 그보다 작은 id 만. 확인에서
+     * 걸러져 모자라면 마지막 id 를 커서로 다시 부르고, 빈 배열이면 더 없음. 색인으로 처리할 수 없는 짧은 키워드면 null.
+     * <p>
+     * 가장 짧은 목록에서 커서 위치를 이분 탐색한 뒤 아래로 내려가며 나머지 목록과 삭제 여부를 하나씩 확인하고 max 개에서
+     * 멈추므로, 한 페이지 비용은 전체 일치 수가 아니라 페이지 크기 근처에 비례한다.
+     */
+    public int[] candidates(String keyword, int beforePostId, int max) {
+        String q = normalize(keyword);
+        if (q.length() < MIN_QUERY_LENGTH)
+            return null;
+        // 3글자 이상이면 3-gram 으로 (선택도가 높음), 2글자면 2-gram 하나
+        int n = q.length() >= 3 ? 3 : 2;
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + n <= q.length(); i++)
+            grams.add(q.substring(i, i + n));
+
+        rw.readLock().lock();
+        try {
+            List<IntList> lists = new ArrayList<>(grams.size());
+            for (String g : grams) {
+                IntList l = postings.get(g);
+                if (l == null)
+                    return new int[0];
+                lists.add(l);
+            }
+            // 가장 짧은 목록을 커서 아래부터 거꾸로 훑는다
+            lists.sort((a, b) -> Integer.compare(a.size, b.size));
+            IntList shortest = lists.get(0);
+            int i = shortest.size;
+            if (beforePostId > 0) {
+                i = Arrays.binarySearch(shortest.data, 0, shortest.size, beforePostId);
+                if (i < 0)
+                    i = -i - 1;
+            }
+            // 나머지 목록의 탐색 상한: id 가 내려가기만 하므로 확인할 때마다 줄어든다
+            int[] upper = new int[lists.size()];
+            for (int k = 1; k < lists.size(); k++)
+                upper[k] = lists.get(k).size;
+
+            int[] out = new int[Math.max(0, Math.min(max, i))];
+            int m = 0;
+            while (m < out.length && --i >= 0) {
+                int id = shortest.data[i];
+                if (!deleted.get(id) && inAll(lists, upper, id))
+                    out[m++] = id;
+            }
+            return m == out.length ? out : Arrays.copyOf(out, m);
+        } finally {
+            rw.readLock().unlock();
+        }
+    }
+
+    /** 색인과 같은 규칙으로 실제 값이 키워드를 포함하는지 확인 */
+    public static boolean matches(String keyword, String... fields) {
+        String q = normalize(keyword);
+        for (String f : fields) {
+            if (normalize(f).contains(q))
+                return true;
+        }
+        return false;
+    }
+
+    public int gramCount() {
+        rw.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            rw.readLock().unlock();
+        }
+    }
+
+    /* ========== 내부 ========== */
+
+    static String normalize(String s) {
+        if (s == null || s.isEmpty())
+            return "";
+        String n = Normalizer.normalize(s, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(n.length());
+        for (int i = 0; i < n.length(); i++) {
+            char c = n.charAt(i);
+            if (!Character.isWhitespace(c))
+                sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    private static void collectGrams(String s, Set<String> out) {
+        for (int n = 2; n <= 3; n++) {
+            for (int i = 0; i + n <= s.length(); i++)
+                out.add(s.substring(i, i + n));
+        }
+    }
+
+    /** id 가 lists[1..] 모두에 있는지. 각 목록은 [0, upper[k]) 만 보고, 본 위치로 upper[k] 를 줄인다 */
+    private static boolean inAll(List<IntList> lists, int[] upper, int id) {
+        for (int k = 1; k < lists.size(); k++) {
+            int pos = Arrays.binarySearch(lists.get(k).data, 0, upper[k], id);
+            if (pos < 0) {
+                upper[k] = -pos - 1;
+                return false;
+            }
+            upper[k] = pos;
+        }
+        return true;
+    }
+
+    /** 오름차순 정렬된 int 목록 (대부분 새 글이라 뒤에 붙이기만 함) */
+    private static final class IntList {
+        int[] data = new int[4];
+        int size;
+
+        void add(int v) {
+            if (size > 0 && data[size - 1] >= v) {
+                int pos = Arrays.binarySearch(data, 0, size, v);
+                if (pos >= 0)
+                    return; // 이미 있음
+                insertAt(-pos - 1, v);
+                return;
+            }
+            if (size == data.length)
+                data = Arrays.copyOf(data, size * 2);
+            data[size++] = v;
+        }
+
+        private void insertAt(int pos, int v) {
+            if (size == data.length)
+                data = Arrays.copyOf(data, size * 2);
+            System.arraycopy(data, pos, data, pos + 1, size - pos);
+            data[pos] = v;
+            size++;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package tools;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import service.port.SnsException;
+
+/**
+ * MySQL 로 바로 적재하는 SeedSink.
+ * <p>
+ * batch 모드: 테이블마다 PreparedStatement 배치를 쌓아 batchSize 행마다 외래 키 순서(USER → POST → IMAGE → COMMENT →
+ * REACTION)로 실행하고 커밋한다. URL 에 rewriteBatchedStatements=true 가 있으면 드라이버가 여러 행 INSERT 한 문장으로 보낸다.
+ * <br>
+ * load-data 모드: 탭 구분 임시 파일에 쓰고 마지막에 LOAD DATA LOCAL INFILE 로 테이블마다 한 번에 넣는다 (가장 빠르지만 서버의
+ * local_infile 과 드라이버의 allowLoadLocalInfile 이 켜져 있어야 함).
+ * <p>
+ * 두 모드 모두 적재하는 동안만 세션의 FOREIGN_KEY_CHECKS / UNIQUE_CHECKS 를 끈다. 생성기가 일관된 id 를 넘기기 때문이다.
+ */
+public class JdbcSeedSink implements SeedSink {
+
+    private static final DateTimeFormatter TSV_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final String[] TABLES = { "USER", "POST", "IMAGE", "COMMENT", "REACTION" };
+    private static final String[] COLUMNS = { "(User_id, Name, Email, Password, Biography)",
+            "(Post_id, User_id, Post_context, File_path, File_name, Upload_time, Update_time, "
+                    + "Like_count, Dislike_count, Comment_count)",
+            "(Post_id, File_path, File_name)", "(Post_id, User_id, Comment, Upload_time, Update_time)",
+            "(User_id, Post_id, Type)" };
+
+    private final Connection conn;
+    private final int batchSize;
+    private final boolean loadData;
+
+    // batch 모드
+    private final PreparedStatement[] statements = new PreparedStatement[TABLES.length];
+    private int pending;
+
+    // load-data 모드
+    private final Path[] files = new Path[TABLES.length];
+    private final BufferedWriter[] writers = new BufferedWriter[TABLES.length];
+
+    public JdbcSeedSink(Connection conn, int batchSize, boolean loadData) {
+        this.conn = conn;
+        this.batchSize = batchSize;
+        this.loadData = loadData;
+        try {
+            try (Statement st = conn.createStatement()) {
+                st.execute("SET FOREIGN_KEY_CHECKS = 0");
+                st.execute("SET UNIQUE_CHECKS = 0");
+            }
+            conn.setAutoCommit(false);
+            for (int t = 0; t < TABLES.length; t++) {
+                if (loadData) {
+                    files[t] = Files.createTempFile("seed-" + TABLES[t].toLowerCase() + "-", ".tsv");
+                    writers[t] = Files.newBufferedWriter(files[t], StandardCharsets.UTF_8);
+                } else {
+                    String cols = COLUMNS[t];
+                    String marks = "?" + ", ?".repeat(cols.split(",").length - 1);
+                    statements[t] = conn.prepareStatement("INSERT INTO " + TABLES[t] + " " + cols + " VALUES (" + marks
+                            + ")");
+                }
+            }
+        } catch (SQLException e) {
+            throw new SnsException("시드 적재 준비 실패", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void user(int userId, String name, String email, String password, String biography) {
+        row(0, userId, name, email, password, biography);
+    }
+
+    @Override
+    public void post(int postId, int userId, String content, String filePath, String fileName,
+            LocalDateTime uploaded, int likes, int dislikes, int comments) {
+        row(1, postId, userId, content, filePath, fileName, uploaded, uploaded, likes, dislikes, comments);
+    }
+
+    @Override
+    public void image(int postId, String filePath, String fileName) {
+        row(2, postId, filePath, fileName);
+    }
+
+    @Override
+    public void comment(int postId, int userId, String text, LocalDateTime uploaded) {
+        row(3, postId, userId, text, uploaded, uploaded);
+    }
+
+    @Override
+    public void reaction(int userId, int postId, String type) {
+        row(4, userId, postId, type);
+    }
+
+    @Override
+    public void close() {
+        try {
+            if (loadData) {
+                for (BufferedWriter w : writers)
+                    w.close();
+                try (Statement st = conn.createStatement()) {
+                    for (int t = 0; t < TABLES.length; t++) {
+                        String path = files[t].toAbsolutePath().toString().replace("\\", "/");
+                        st.execute("LOAD DATA LOCAL INFILE '" + path + "' INTO TABLE " + TABLES[t]
+                                + " CHARACTER SET utf8mb4 " + COLUMNS[t]);
+                        conn.commit();
+                        Files.deleteIfExists(files[t]);
+                    }
+                }
+            } else {
+                flush();
+                for (PreparedStatement ps : statements)
+                    ps.close();
+            }
+            try (Statement st = conn.createStatement()) {
+                st.execute("SET FOREIGN_KEY_CHECKS = 1");
+                st.execute("SET UNIQUE_CHECKS = 1");
+            }
+            conn.setAutoCommit(true);
+        } catch (SQLException e) {
+            throw new SnsException("시드 적재 실패", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /* ========== 내부 ========== */
+
+    private void row(int table, Object... values) {
+        try {
+            if (loadData) {
+                writeTsv(writers[table], values);
+                return;
+            }
+            PreparedStatement ps = statements[table];
+            for (int i = 0; i < values.length; i++) {
+                Object v = values[i];
+                if (v == null)
+                    ps.setNull(i + 1, Types.VARCHAR);
+                else if (v instanceof LocalDateTime t)
+                    ps.setTimestamp(i + 1, Timestamp.valueOf(t));
+                else
+                    ps.setObject(i + 1, v);
+            }
+            ps.addBatch();
+            if (++pending >= batchSize)
+                flush();
+        } catch (SQLException e) {
+            throw new SnsException("시드 적재 실패", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** 부모 테이블부터 실행 → 커밋 */
+    private void flush() throws SQLException {
+        for (PreparedStatement ps : statements)
+            ps.executeBatch();
+        conn.commit();
+        pending = 0;
+    }
+
+    /** LOAD DATA 기본 형식: 탭/줄바꿈/역슬래시 이스케이프, NULL 은 \N */
+    private static void writeTsv(BufferedWriter w, Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0)
+                w.write('\t');
+            Object v = values[i];
+            if (v == null) {
+                w.write("\\N");
+            } else if (v instanceof LocalDateTime t) {
+                w.write(t.format(TSV_TIME));
+            } else {
+                String s = v.toString();
+                for (int k = 0; k < s.length(); k++) {
+                    char c = s.charAt(k);
+                    switch (c) {
+                    case '\t' -> w.write("\\t");
+                    case '\n' -> w.write("\\n");
+                    case '\\' -> w.write("\\\\");
+                    default -> w.write(c);
+                    }
+                }
+            }
+        }
+        w.write('\n');
+    }
+}
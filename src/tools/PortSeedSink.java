@@ -0,0 +1,49 @@
+package tools;
+
+import java.time.LocalDateTime;
+
+import service.port.SnsPort;
+
+/**
+ * SnsPort 로 넣는 SeedSink (MemorySnsPort 벤치마크 대역 채우기용).
+ * <p>
+ * 포트가 id 를 직접 매기므로 빈 포트에 1 번부터 생성할 때만 id 가 맞는다. 작성 시각과 IMAGE 행은 포트 API 에 없어서 버리고,
+ * 카운터는 반응을 토글하면서 포트가 직접 센다.
+ */
+public class PortSeedSink implements SeedSink {
+
+    private final SnsPort port;
+
+    public PortSeedSink(SnsPort port) {
+        this.port = port;
+    }
+
+    @Override
+    public void user(int userId, String name, String email, String password, String biography) {
+        port.register(name, email, password);
+    }
+
+    @Override
+    public void post(int postId, int userId, String content, String filePath, String fileName,
+            LocalDateTime uploaded, int likes, int dislikes, int comments) {
+        port.createPost(userId, filePath, fileName, content);
+    }
+
+    @Override
+    public void image(int postId, String filePath, String fileName) {
+    }
+
+    @Override
+    public void comment(int postId, int userId, String text, LocalDateTime uploaded) {
+        port.addComment(userId, postId, text);
+    }
+
+    @Override
+    public void reaction(int userId, int postId, String type) {
+        port.toggleReaction(userId, postId, type); // 처음 누르는 것이므로 그대로 그 유형이 됨
+    }
+
+    @Override
+    public void close() {
+    }
+}
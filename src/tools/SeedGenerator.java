@@ -0,0 +1,272 @@
+package tools;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * 규모 테스트용 가짜 SNS 데이터 생성기.
+ * <p>
+ * 실제 서비스처럼 치우친 분포를 만든다: 글쓰기/반응/댓글은 소수의 활동적인 사용자에게 몰리고(Zipf), 글마다 반응 수는 멱법칙
+ * (Pareto)이라 대부분 몇 개지만 일부 인기 글은 수천 개를 받는다. 본문은 한국어 문장 조각을 이어 붙이고, 같은 시드면 항상 같은
+ * 행이 같은 순서로 나오므로 벤치마크 실행끼리 비교할 수 있다.
+ *
+ * <pre>
+ * java -cp out:lib/mysql-connector-j-9.4.0.jar tools.SeedGenerator --users 10000 --posts 1000000 [--seed 42]
+ *      [--days 365] [--until 2025-01-01T00:00] [--mode batch|load-data] [--batch 2000] [--url jdbc:mysql://...] [--user root] [--password 12345]
+ * </pre>
+ */
+public final class SeedGenerator {
+
+    /** 검색어로도 쓰는 주제 단어 (벤치마크가 같은 목록에서 검색어를 고른다) */
+    public static final String[] TOPICS = { "고양이", "점심", "코딩", "과제", "여행", "카페", "운동", "영화", "시험", "주말",
+            "강아지", "프로젝트", "데이터베이스", "회식", "날씨", "발표", "야식", "도서관", "산책", "커피" };
+
+    private static final String[] OPENERS = { "오늘", "어제", "드디어", "요즘", "주말에", "아침부터", "방금", "퇴근하고",
+            "수업 끝나고", "새벽에" };
+    private static final String[] PREDICATES = { "다녀왔어요", "먹었는데 맛있었다", "시작했습니다", "끝냈다!", "고민 중...",
+            "추천합니다", "너무 좋았어요", "망했다 ㅠㅠ", "생각보다 괜찮네", "또 하고 싶다" };
+    private static final String[] TAILS = { "", " ㅋㅋ", " 다들 어때요?", " #일상", " 다음에 또 가야지", " 사진 첨부!",
+            " 내일도 화이팅", "" };
+    private static final String[] COMMENTS = { "좋아요!", "부럽다", "ㅋㅋㅋㅋ", "저도 가보고 싶어요", "대박", "고생했어",
+            "어디예요?", "맛있겠다", "화이팅!", "공감합니다" };
+    private static final String[] SURNAMES = { "김", "이", "박", "최", "정", "강", "조", "윤", "장", "임", "한", "오" };
+    private static final String[] GIVEN = { "민", "서", "준", "지", "현", "우", "예", "은", "도", "하", "윤", "진", "수",
+            "연", "호" };
+
+    /** 생성 규모/분포 설정 (메서드 체이닝) */
+    public static final class Config {
+        int users = 1_000;
+        int posts = 10_000;
+        long seed = 42;
+        LocalDateTime until = LocalDateTime.of(2025, 1, 1, 0, 0); // 고정 기준 시각 (실행 날짜와 무관하게 같은 행)
+        int days = 365; // 글 작성 시각이 퍼지는 기간 (until 부터 과거로)
+        double imageRatio = 0.3;
+        double activitySkew = 1.1; // 사용자 활동 Zipf 지수
+        double popularityAlpha = 1.2; // 글 반응 수 Pareto 지수 (작을수록 꼬리가 두꺼움)
+        double likeRatio = 0.85;
+        double commentsPerReaction = 0.25;
+
+        public Config users(int v) {
+            this.users = v;
+            return this;
+        }
+
+        public Config posts(int v) {
+            this.posts = v;
+            return this;
+        }
+
+        public Config seed(long v) {
+            this.seed = v;
+            return this;
+        }
+
+        public Config until(LocalDateTime v) {
+            this.until = v;
+            return this;
+        }
+
+        public Config days(int v) {
+            this.days = v;
+            return this;
+        }
+
+        public Config imageRatio(double v) {
+            this.imageRatio = v;
+            return this;
+        }
+
+        public Config activitySkew(double v) {
+            this.activitySkew = v;
+            return this;
+        }
+
+        public Config popularityAlpha(double v) {
+            this.popularityAlpha = v;
+            return this;
+        }
+    }
+
+    /** 생성 결과 개수 */
+    public record Summary(int users, int posts, long images, long comments, long reactions) {
+        @Override
+        public String toString() {
+            return String.format("users=%d posts=%d images=%d comments=%d reactions=%d", users, posts, images,
+                    comments, reactions);
+        }
+    }
+
+    private final Config cfg;
+    private final SplittableRandom rnd;
+    private final double[] activityCdf; // 사용자 순위별 누적 가중치 (Zipf)
+    private final int[] rankToUser; // 순위 → 사용자 번호 (활동적인 사용자가 id 순으로 몰리지 않게 섞음)
+
+    public SeedGenerator(Config cfg) {
+        this.cfg = cfg;
+        this.rnd = new SplittableRandom(cfg.seed);
+        this.activityCdf = new double[cfg.users];
+        double sum = 0;
+        for (int r = 0; r < cfg.users; r++) {
+            sum += 1.0 / Math.pow(r + 1, cfg.activitySkew);
+            activityCdf[r] = sum;
+        }
+        this.rankToUser = new int[cfg.users];
+        for (int i = 0; i < cfg.users; i++)
+            rankToUser[i] = i;
+        for (int i = cfg.users - 1; i > 0; i--) {
+            int j = rnd.nextInt(i + 1);
+            int t = rankToUser[i];
+            rankToUser[i] = rankToUser[j];
+            rankToUser[j] = t;
+        }
+    }
+
+    /** id 는 firstUserId / firstPostId 부터 차례로 (기존 데이터 뒤에 붙일 때) */
+    public Summary generate(SeedSink sink, int firstUserId, int firstPostId) {
+        for (int u = 0; u < cfg.users; u++) {
+            int id = firstUserId + u;
+            String name = SURNAMES[rnd.nextInt(SURNAMES.length)] + GIVEN[rnd.nextInt(GIVEN.length)]
+                    + GIVEN[rnd.nextInt(GIVEN.length)] + id; // Name 은 UNIQUE
+            String bio = TOPICS[rnd.nextInt(TOPICS.length)] + " 좋아하는 사람";
+            sink.user(id, name, "user" + id + "@seed.local", "1234", bio);
+        }
+
+        long images = 0, comments = 0, reactions = 0;
+        LocalDateTime start = cfg.until.minusDays(cfg.days);
+        long spanSeconds = cfg.days * 86_400L;
+        Set<Integer> reacted = new HashSet<>();
+        for (int i = 0; i < cfg.posts; i++) {
+            int postId = firstPostId + i;
+            int author = firstUserId + activeUser();
+            // 글 번호 순서 ≈ 작성 시각 순서 (키셋 페이지가 최신순과 일치)
+            LocalDateTime uploaded = start.plusSeconds(spanSeconds * i / Math.max(1, cfg.posts) + rnd.nextInt(60));
+            boolean hasImage = rnd.nextDouble() < cfg.imageRatio;
+            String fileName = hasImage ? "img_" + postId + ".jpg" : null;
+
+            // 반응: 인기도(Pareto)만큼 서로 다른 사용자, 활동적인 사용자일수록 자주 누름
+            int popularity = Math.min(cfg.users, pareto());
+            String[] types = new String[popularity];
+            int[] who = new int[popularity];
+            int likes = 0;
+            reacted.clear();
+            for (int k = 0; k < popularity; k++) {
+                int u = activeUser();
+                for (int tries = 0; reacted.contains(u) && tries < 8; tries++)
+                    u = activeUser();
+                if (!reacted.add(u))
+                    continue; // 이미 누른 사용자만 계속 걸리면 그만큼 덜 받은 걸로
+                who[k] = firstUserId + u;
+                types[k] = rnd.nextDouble() < cfg.likeRatio ? "LIKE" : "DISLIKE";
+                if (types[k].equals("LIKE"))
+                    likes++;
+            }
+            int reactionCount = reacted.size();
+            int commentCount = (int) (reactionCount * cfg.commentsPerReaction * 2 * rnd.nextDouble());
+
+            sink.post(postId, author, postText(), hasImage ? "images" : null, fileName, uploaded, likes,
+                    reactionCount - likes, commentCount);
+            if (hasImage) {
+                int n = 1 + (rnd.nextInt(10) == 0 ? rnd.nextInt(3) : 0); // 가끔 여러 장
+                for (int k = 0; k < n; k++)
+                    sink.image(postId, "images", k == 0 ? fileName : "img_" + postId + "_" + k + ".jpg");
+                images += n;
+            }
+            for (int k = 0; k < commentCount; k++) {
+                sink.comment(postId, firstUserId + activeUser(), COMMENTS[rnd.nextInt(COMMENTS.length)],
+                        uploaded.plusMinutes(1 + (long) (-Math.log(1 - rnd.nextDouble()) * 180)));
+            }
+            comments += commentCount;
+            for (int k = 0; k < popularity; k++) {
+                if (types[k] != null)
+                    sink.reaction(who[k], postId, types[k]);
+            }
+            reactions += reactionCount;
+        }
+        sink.close();
+        return new Summary(cfg.users, cfg.posts, images, comments, reactions);
+    }
+
+    /** Zipf 가중치로 사용자 번호 (0 부터) */
+    private int activeUser() {
+        double x = rnd.nextDouble() * activityCdf[activityCdf.length - 1];
+        int r = Arrays.binarySearch(activityCdf, x);
+        if (r < 0)
+            r = -r - 1;
+        return rankToUser[Math.min(r, rankToUser.length - 1)];
+    }
+
+    /** Pareto(xm=1, alpha) - 1 → 0 이상 정수, 평균 ≈ alpha/(alpha-1) - 1 */
+    private int pareto() {
+        double u = 1 - rnd.nextDouble(); // (0, 1]
+        double v = Math.pow(u, -1.0 / cfg.popularityAlpha) - 1;
+        return v >= Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) v;
+    }
+
+    private String postText() {
+        StringBuilder sb = new StringBuilder();
+        int sentences = 1 + rnd.nextInt(3);
+        for (int s = 0; s < sentences; s++) {
+            if (s > 0)
+                sb.append(' ');
+            sb.append(OPENERS[rnd.nextInt(OPENERS.length)]).append(' ')
+                    .append(TOPICS[rnd.nextInt(TOPICS.length)]).append(' ')
+                    .append(PREDICATES[rnd.nextInt(PREDICATES.length)])
+                    .append(TAILS[rnd.nextInt(TAILS.length)]);
+        }
+        return sb.toString();
+    }
+
+    /* ========== 명령행 ========== */
+
+    public static void main(String[] args) throws Exception {
+        Config cfg = new Config();
+        String mode = "batch";
+        int batch = 2_000;
+        String url = "jdbc:mysql://localhost:3306/sns?serverTimezone=Asia/Seoul";
+        String user = "root", password = "12345";
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String v = args[i + 1];
+            switch (args[i]) {
+            case "--users" -> cfg.users(Integer.parseInt(v));
+            case "--posts" -> cfg.posts(Integer.parseInt(v));
+            case "--seed" -> cfg.seed(Long.parseLong(v));
+            case "--days" -> cfg.days(Integer.parseInt(v));
+            case "--until" -> cfg.until(LocalDateTime.parse(v));
+            case "--mode" -> mode = v;
+            case "--batch" -> batch = Integer.parseInt(v);
+            case "--url" -> url = v;
+            case "--user" -> user = v;
+            case "--password" -> password = v;
+            default -> throw new IllegalArgumentException("알 수 없는 옵션: " + args[i]);
+            }
+        }
+        boolean loadData = mode.equals("load-data");
+        // 배치를 여러 행 INSERT 한 문장으로 보내고, LOAD DATA LOCAL 은 명시적으로 허용해야 함
+        url += (url.contains("?") ? "&" : "?") + "rewriteBatchedStatements=true"
+                + (loadData ? "&allowLoadLocalInfile=true" : "");
+
+        try (Connection conn = DriverManager.getConnection(url, user, password)) {
+            int firstUser = maxId(conn, "SELECT COALESCE(MAX(User_id), 0) FROM USER") + 1;
+            int firstPost = maxId(conn, "SELECT COALESCE(MAX(Post_id), 0) FROM POST") + 1;
+            long t0 = System.nanoTime();
+            Summary s = new SeedGenerator(cfg).generate(new JdbcSeedSink(conn, batch, loadData), firstUser,
+                    firstPost);
+            System.out.printf("[seed] %s (%s, %.1fs)%n", s, mode, (System.nanoTime() - t0) / 1e9);
+        }
+    }
+
+    private static int maxId(Connection conn, String sql) throws SQLException {
+        try (Statement st = conn.createStatement(); ResultSet rs = st.executeQuery(sql)) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package tools;
+
+import java.time.LocalDateTime;
+
+/**
+ * SeedGenerator 가 만든 행을 받는 곳 (JDBC 배치, LOAD DATA 파일, SnsPort 등).
+ * <p>
+ * 행은 외래 키 순서대로 온다: 사용자 전부 → 글마다 (글, 이미지, 댓글, 반응). id 는 생성기가 정해서 넘긴다.
+ */
+public interface SeedSink extends AutoCloseable {
+
+    void user(int userId, String name, String email, String password, String biography);
+
+    /** likes/dislikes/comments 는 뒤따라 올 반응/댓글 행과 일치하는 비정규화 카운터 값 */
+    void post(int postId, int userId, String content, String filePath, String fileName, LocalDateTime uploaded,
+            int likes, int dislikes, int comments);
+
+    void image(int postId, String filePath, String fileName);
+
+    void comment(int postId, int userId, String text, LocalDateTime uploaded);
+
+    void reaction(int userId, int postId, String type);
+
+    /** 남은 행 반영 */
+    @Override
+    void close();
+}
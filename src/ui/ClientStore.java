@@ -0,0 +1,296 @@
+package ui;
+
+import service.port.AsyncSnsPort;
+import service.port.SnsPort;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 화면들이 함께 보는 클라이언트 쪽 저장소 (로그인 사용자 한 명 기준, EDT 전용).
+ * <p>
+ * 글은 postId 로, 댓글은 (글, 댓글 id) 로 한 벌만 두고, 내 반응은 글의 myState 로 함께 둔다. 포트 호출은 이 클래스를 거치며
+ * 읽은 결과는 합쳐 두고 쓰기 결과는 바로 반영한 뒤 구독 중인 화면(목록, 상세, 댓글 창)에 변경 이벤트로 알린다. 그래서 한
+ * 창에서 고친 내용이 다른 창에도 다시 조회하지 않고 바로 보인다. 댓글은 최신부터 끊김 없이 읽어 둔 구간을 그대로 다시
+ * 내주고, 다른 곳에서 댓글 수가 바뀐 것이 보이면 그 글의 댓글은 버린다.
+ * <p>
+ * 글과 댓글은 목록이 보여 주는 동안과 그 글을 연 창이 열려 있는 동안만 둔다. 창은 글 단위 구독으로 글을 붙잡고, 목록은 행을
+ * 모두 비울 때 {@link #evictUnpinned()} 로 나머지를 버린다.
+ * <p>
+ * AsyncSnsPort 의 콜백이 EDT 에서 돌기 때문에 별도 잠금이 없다. 반환하는 future 는 저장소 반영과 이벤트 전달이 끝난 뒤에
+ * 완료된다.
+ */
+public class ClientStore {
+
+    /** 변경 이벤트 (모두 EDT 에서, 필요한 것만 구현) */
+    public interface Listener {
+        /** 이미 알고 있던 글의 값이 바뀜 (반응, 카운터, 본문) */
+        default void postChanged(SnsPort.PostView post) {
+        }
+
+        /** 새로 생긴 글 (내가 썼거나 변경분으로 처음 받음). 여러 개면 오래된 것부터 */
+        default void postAdded(SnsPort.PostView post) {
+        }
+
+        default void postRemoved(int postId) {
+        }
+
+        default void commentAdded(int postId, SnsPort.CommentView comment) {
+        }
+    }
+
+    private final AsyncSnsPort port;
+    private final int userId;
+
+    // 한 글의 댓글: 최신 댓글부터 oldest 까지 빠짐없이 읽어 둔 구간 (hasOlder 면 그보다 오래된 댓글이 더 있음)
+    private static final class CommentThread {
+        final NavigableMap<Integer, SnsPort.CommentView> byId = new TreeMap<>();
+        boolean hasOlder = true;
+    }
+
+    private final Map<Integer, SnsPort.PostView> posts = new HashMap<>();
+    private final Map<Integer, CommentThread> comments = new HashMap<>();
+    private final Map<Integer, Integer> pins = new HashMap<>(); // 글 → 그 글을 연 창 수
+
+    // 응답을 기다리는 반응 토글 (글마다): 진행 중 개수와 서버가 마지막으로 확인해 준 반응
+    private static final class PendingToggles {
+        int inFlight;
+        SnsPort.ReactionView confirmed;
+    }
+
+    private final Map<Integer, PendingToggles> toggles = new HashMap<>();
+    // 최신 댓글 페이지를 읽는 중인 글 → 그 사이 이 저장소로 단 댓글 (응답이 요청 전 상태라서 받은 뒤 합친다)
+    private final Map<Integer, List<SnsPort.CommentView>> addedWhileLoading = new HashMap<>();
+    private final List<Listener> listeners = new ArrayList<>();
+
+    public ClientStore(AsyncSnsPort port, int userId) {
+        this.port = port;
+        this.userId = userId;
+    }
+
+    public int userId() {
+        return userId;
+    }
+
+    /** 이벤트 구독. 돌려준 Runnable 을 실행하면 해제 (창을 닫을 때) */
+    public Runnable subscribe(Listener l) {
+        listeners.add(l);
+        return () -> listeners.remove(l);
+    }
+
+    /** 글 하나를 보는 창의 구독: 해제할 때까지 그 글과 댓글을 버리지 않는다 */
+    public Runnable subscribe(int postId, Listener l) {
+        pins.merge(postId, 1, Integer::sum);
+        Runnable unsubscribe = subscribe(l);
+        return () -> {
+            unsubscribe.run();
+            pins.computeIfPresent(postId, (k, n) -> n > 1 ? n - 1 : null);
+        };
+    }
+
+    /** 목록이 행을 모두 비울 때 호출: 열린 창이 붙잡은 글만 남기고 글/댓글을 버린다 */
+    public void evictUnpinned() {
+        posts.keySet().retainAll(pins.keySet());
+        comments.keySet().retainAll(pins.keySet());
+    }
+
+    /** 알고 있는 글의 현재 값 (없으면 null) */
+    public SnsPort.PostView post(int postId) {
+        return posts.get(postId);
+    }
+
+    /* ========== 읽기: 받은 결과를 합쳐 둔다 ========== */
+
+    public CompletableFuture<List<SnsPort.PostView>> listRecentPage(int beforePostId, int limit) {
+        return port.listRecentPage(userId, beforePostId, limit).thenApply(this::mergePosts);
+    }
+
+    public CompletableFuture<List<SnsPort.PostView>> searchPage(String keyword, int beforePostId, int limit) {
+        return port.searchPage(userId, keyword, beforePostId, limit).thenApply(this::mergePosts);
+    }
+
+    /** 피드 변경분을 받아 반영한다 (reset 이면 반영할 것이 없으므로 그대로 돌려줌) */
+    public CompletableFuture<SnsPort.FeedDelta> changesSince(long since, int limit) {
+        return port.changesSince(userId, since, limit).thenApply(delta -> {
+            if (delta.reset())
+                return delta;
+            for (int postId : delta.deletedIds())
+                removed(postId);
+            // 최신순으로 오므로 거꾸로: 새 글 이벤트가 오래된 것부터 가도록
+            for (int i = delta.changed().size() - 1; i >= 0; i--) {
+                var p = delta.changed().get(i);
+                if (posts.containsKey(p.postId()))
+                    put(p);
+                else
+                    added(p);
+            }
+            return delta;
+        });
+    }
+
+    /** 댓글 페이지 (규칙은 SnsPort.listCommentsPage 와 같음). 읽어 둔 구간 안이면 조회 없이 바로 완료된다 */
+    public CompletableFuture<List<SnsPort.CommentView>> listCommentsPage(int postId, int beforeCommentId,
+            int limit) {
+        CommentThread t = comments.get(postId);
+        if (t != null) {
+            var older = beforeCommentId > 0 ? t.byId.headMap(beforeCommentId, false) : t.byId;
+            if (older.size() >= limit || !t.hasOlder)
+                return CompletableFuture.completedFuture(older.descendingMap().values().stream().limit(limit).toList());
+        }
+        if (beforeCommentId == 0)
+            addedWhileLoading.putIfAbsent(postId, new ArrayList<>());
+        int countBefore = commentCount(postId);
+        return port.listCommentsPage(postId, beforeCommentId, limit).thenApply(page -> {
+            CommentThread cur = comments.get(postId);
+            if (beforeCommentId == 0) {
+                List<SnsPort.CommentView> since = addedWhileLoading.remove(postId);
+                if (since == null)
+                    since = List.of(); // 같은 글의 다른 최신 페이지 요청이 먼저 가져감
+                int countNow = commentCount(postId);
+                if (countBefore >= 0 && countNow != countBefore + since.size()) {
+                    comments.remove(postId); // 다른 곳에서도 댓글이 달림 → 이 페이지로는 최신 구간을 알 수 없음
+                    return page;
+                }
+                cur = new CommentThread(); // 최신 페이지부터 새로 시작
+                for (var c : since)
+                    cur.byId.put(c.id(), c);
+                comments.put(postId, cur);
+            } else if (cur == null || cur.byId.isEmpty() || cur.byId.firstKey() != beforeCommentId) {
+                return page; // 읽어 둔 구간과 이어지지 않음
+            }
+            for (var c : page)
+                cur.byId.put(c.id(), c);
+            cur.hasOlder = page.size() == limit;
+            return page;
+        }).whenComplete((page, ex) -> {
+            if (ex != null && beforeCommentId == 0)
+                addedWhileLoading.remove(postId);
+        });
+    }
+
+    /** 알고 있는 글의 댓글 수 (모르면 -1) */
+    private int commentCount(int postId) {
+        var p = posts.get(postId);
+        return p == null ? -1 : p.commentCount();
+    }
+
+    /** 페이지의 글을 저장소에 넣는다. 이미 있던 글의 값이 달라졌으면 다른 창에도 알린다 */
+    private List<SnsPort.PostView> mergePosts(List<SnsPort.PostView> page) {
+        for (var p : page)
+            put(p);
+        return page;
+    }
+
+    /* ========== 쓰기: 결과를 반영하고 알린다 ========== */
+
+    /**
+     * 반응 토글. 응답 전에 예상 결과를 먼저 반영한다. 같은 글의 토글이 여러 개 진행 중이면 앞선 예상 위에 다음 예상을 쌓고,
+     * 모두 끝났을 때 서버가 마지막으로 확인해 준 반응(없으면 첫 토글 전 값)으로 맞춘다. 그래서 실패한 토글이 뒤이은 토글의
+     * 예상을 옛 값으로 덮지 않는다.
+     */
+    public CompletableFuture<SnsPort.ReactionView> toggleReaction(int postId, String type) {
+        var before = posts.get(postId);
+        PendingToggles pending = toggles.computeIfAbsent(postId, k -> {
+            PendingToggles p = new PendingToggles();
+            if (before != null)
+                p.confirmed = new SnsPort.ReactionView(postId, before.myState(), before.likeCount(),
+                        before.dislikeCount());
+            return p;
+        });
+        pending.inFlight++;
+        if (before != null)
+            put(before.withReaction(predict(before, type)));
+        return port.toggleReaction(userId, postId, type).whenComplete((r, ex) -> {
+            if (ex == null)
+                pending.confirmed = r;
+            if (--pending.inFlight > 0)
+                return; // 뒤이은 토글의 예상을 유지
+            toggles.remove(postId);
+            var cur = posts.get(postId);
+            if (cur != null && pending.confirmed != null)
+                put(cur.withReaction(pending.confirmed)); // 서버가 계산한 카운터로 확정 (모두 실패했으면 되돌림)
+        });
+    }
+
+    /** 서버 응답 전에 보여줄 예상 결과 (토글 규칙은 toggle_reaction 프로시저와 같음) */
+    private static SnsPort.ReactionView predict(SnsPort.PostView p, String type) {
+        String prev = p.myState();
+        String next = type.equals(prev) ? "NONE" : type;
+        int like = p.likeCount() + ("LIKE".equals(next) ? 1 : 0) - ("LIKE".equals(prev) ? 1 : 0);
+        int dislike = p.dislikeCount() + ("DISLIKE".equals(next) ? 1 : 0) - ("DISLIKE".equals(prev) ? 1 : 0);
+        return new SnsPort.ReactionView(p.postId(), next, like, dislike);
+    }
+
+    public CompletableFuture<SnsPort.PostView> createPost(String filePath, String fileName, String text) {
+        return port.createPost(userId, filePath, fileName, text).whenComplete((post, ex) -> {
+            if (ex == null && post != null && !posts.containsKey(post.postId()))
+                added(post); // 변경분 확인이 먼저 가져왔으면 이미 있음
+        });
+    }
+
+    public CompletableFuture<Boolean> updatePost(int postId, String newContent) {
+        return port.updatePost(userId, postId, newContent).whenComplete((updated, ex) -> {
+            var cur = posts.get(postId);
+            if (ex == null && updated && cur != null)
+                put(cur.withContent(newContent));
+        });
+    }
+
+    public CompletableFuture<Boolean> deletePost(int postId) {
+        return port.deletePost(userId, postId).whenComplete((deleted, ex) -> {
+            if (ex == null && deleted)
+                removed(postId);
+        });
+    }
+
+    /** 댓글 작성: 댓글을 넣고 그 글의 댓글 수도 하나 올린다 */
+    public CompletableFuture<SnsPort.CommentView> addComment(int postId, String content) {
+        return port.addComment(userId, postId, content).whenComplete((created, ex) -> {
+            if (ex != null)
+                return;
+            CommentThread t = comments.remove(postId); // 댓글 수 변경으로 버려지지 않게 잠시 빼 둠
+            var cur = posts.get(postId);
+            if (cur != null)
+                put(cur.withCommentCount(cur.commentCount() + 1));
+            if (t != null) {
+                t.byId.put(created.id(), created);
+                comments.put(postId, t);
+            }
+            var loading = addedWhileLoading.get(postId);
+            if (loading != null)
+                loading.add(created); // 읽는 중인 최신 페이지에는 없을 수 있음
+            for (Listener l : List.copyOf(listeners))
+                l.commentAdded(postId, created);
+        });
+    }
+
+    /* ========== 반영 + 이벤트 ========== */
+
+    private void put(SnsPort.PostView p) {
+        var old = posts.put(p.postId(), p);
+        if (old != null && old.commentCount() != p.commentCount())
+            comments.remove(p.postId()); // 다른 곳에서 댓글이 달림 → 읽어 둔 구간이 최신이 아님
+        if (old != null && !old.equals(p)) {
+            for (Listener l : List.copyOf(listeners)) // 이벤트 처리 중에 구독 해제(창 닫기)가 있을 수 있음
+                l.postChanged(p);
+        }
+    }
+
+    private void added(SnsPort.PostView p) {
+        posts.put(p.postId(), p);
+        for (Listener l : List.copyOf(listeners))
+            l.postAdded(p);
+    }
+
+    private void removed(int postId) {
+        posts.remove(postId);
+        comments.remove(postId);
+        for (Listener l : List.copyOf(listeners))
+            l.postRemoved(postId);
+    }
+}
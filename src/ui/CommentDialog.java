@@ -1,5 +1,6 @@
 package ui;
 
+import service.port.AsyncSnsPort;
 import service.port.SnsPort;
 import ui.theme.RoundedButton;
 import ui.theme.Theme;
@@ -7,23 +8,41 @@ import ui.theme.Theme;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import java.awt.*;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
-/** 댓글 보기/쓰기 */
+/**
+ * 댓글 보기/쓰기.
+ * <p>
+ * 처음엔 최신 댓글 한 페이지만 읽어서 아래쪽(최신)에 맞춰 보여 주고, 맨 위로 스크롤하면 그보다 오래된 페이지를 Comment_id
+ * 키셋으로 이어서 읽어 위에 붙인다. 읽기/쓰기는 ClientStore 를 거치므로 한 번 읽은 구간은 다시 열어도 조회하지 않는다. 새
+ * 댓글은 목록을 다시 읽지 않고 저장소의 댓글 이벤트로 한 건만 맨 아래에 덧붙인다 (글의 댓글 수는 저장소가 올린다).
+ */
 public class CommentDialog extends JDialog {
 
-    private final SnsPort port;
-    private final int myUserId;
+    private static final int PAGE_SIZE = 30;
+    private static final int LOAD_MARGIN_PX = 40; // 맨 위에서 이만큼 안쪽이면 이전 댓글 로드
+
+    private final ClientStore store;
     private final int postId;
+    private final Runnable unsubscribe;
 
     private final DefaultListModel<String> model = new DefaultListModel<>();
     private final JList<String> list = new JList<>(model);
+    private final JScrollPane scroll = new JScrollPane(list);
     private final JTextField input = new JTextField();
+    private final RoundedButton sendBtn = new RoundedButton("등록");
+
+    private int oldestId; // 화면에 있는 가장 오래된 댓글 id (0 이면 아직 없음)
+    private boolean hasOlder = true;
+    private boolean loading;
+    private boolean placeholder; // model 에 안내 문구만 있는 상태
+    private final Set<Integer> shown = new HashSet<>(); // 화면에 있는 댓글 id (같은 댓글 두 번 붙이지 않게)
 
-    public CommentDialog(Window owner, SnsPort port, int myUserId, int postId, String authorName, String fileName) {
+    public CommentDialog(Window owner, ClientStore store, int postId, String authorName, String fileName) {
         super(owner, "댓글 · " + authorName + " · " + fileName, ModalityType.APPLICATION_MODAL);
-        this.port = port;
-        this.myUserId = myUserId;
+        this.store = store;
         this.postId = postId;
 
         setSize(520, 420);
@@ -32,7 +51,11 @@ public class CommentDialog extends JDialog {
         getContentPane().setBackground(Theme.WHITE);
 
         list.setBorder(new EmptyBorder(8, 8, 8, 8));
-        add(new JScrollPane(list), BorderLayout.CENTER);
+        add(scroll, BorderLayout.CENTER);
+        scroll.getVerticalScrollBar().addAdjustmentListener(e -> {
+            if (!e.getValueIsAdjusting() && e.getValue() <= LOAD_MARGIN_PX)
+                loadOlder();
+        });
 
         JPanel south = new JPanel(new BorderLayout(8, 8));
         south.setBorder(new EmptyBorder(8, 8, 8, 8));
@@ -40,7 +63,6 @@ public class CommentDialog extends JDialog {
 
         input.setBorder(BorderFactory.createCompoundBorder(BorderFactory.createLineBorder(Theme.GRAY_200),
                 new EmptyBorder(8, 10, 8, 10)));
-        var sendBtn = new RoundedButton("등록");
         south.add(input, BorderLayout.CENTER);
         south.add(sendBtn, BorderLayout.EAST);
         add(south, BorderLayout.SOUTH);
@@ -48,28 +70,133 @@ public class CommentDialog extends JDialog {
         sendBtn.addActionListener(e -> submit());
         input.addActionListener(e -> submit());
 
-        reload();
+        unsubscribe = store.subscribe(postId, new ClientStore.Listener() {
+            @Override
+            public void commentAdded(int id, SnsPort.CommentView comment) {
+                if (id == postId)
+                    append(comment);
+            }
+
+            @Override
+            public void postRemoved(int id) {
+                if (id != postId)
+                    return;
+                hasOlder = false;
+                showPlaceholder("삭제된 게시글입니다.");
+                sendBtn.setEnabled(false);
+                input.setEditable(false);
+            }
+        });
+
+        showPlaceholder("불러오는 중…");
+        loadOlder();
     }
 
-    private void reload() {
-        model.clear();
-        // 포트의 댓글 조회 API 명에 맞추어 하나 구현하세요.
-        // 예: port.listComments(postId) → List<SnsPort.CommentView>
-        List<SnsPort.CommentView> comments = port.listComments(postId);
-        for (var c : comments) {
-            model.addElement("• " + c.authorName() + ": " + c.text());
+    @Override
+    public void dispose() {
+        unsubscribe.run();
+        super.dispose();
+    }
+
+    /** 화면의 가장 오래된 댓글보다 이전 페이지를 읽어 위에 붙인다 (첫 호출이면 최신 페이지) */
+    private void loadOlder() {
+        if (loading || !hasOlder)
+            return;
+        loading = true;
+        boolean first = oldestId == 0;
+        // 조회는 작업 스레드에서(읽어 둔 구간이면 조회 없이 바로), 목록 갱신은 EDT 에서
+        store.listCommentsPage(postId, oldestId, PAGE_SIZE).whenComplete((page, ex) -> {
+            if (ex != null) {
+                loading = false;
+                if (first)
+                    showPlaceholder("댓글을 불러오지 못했습니다: " + AsyncSnsPort.errorMessage(ex));
+                hasOlder = false;
+                return;
+            }
+            hasOlder = page.size() == PAGE_SIZE;
+            if (page.isEmpty()) {
+                loading = false;
+                if (first)
+                    showPlaceholder("아직 댓글이 없습니다.");
+                return;
+            }
+            oldestId = page.get(page.size() - 1).id();
+            prepend(page); // 여기서 스크롤 위치가 바뀌는 동안은 loading 이라 다시 불리지 않음
+            if (first)
+                scrollToBottom();
+            // 자리 잡은 뒤에도 맨 위라면(스크롤바가 안 생길 만큼 짧으면) 한 페이지 더
+            SwingUtilities.invokeLater(() -> {
+                loading = false;
+                if (scroll.getVerticalScrollBar().getValue() <= LOAD_MARGIN_PX)
+                    loadOlder();
+            });
+        });
+    }
+
+    /** 최신순 페이지를 뒤집어서 맨 위에 끼우고, 보고 있던 자리가 밀리지 않게 스크롤 위치를 보정한다 */
+    private void prepend(List<SnsPort.CommentView> newestFirst) {
+        if (placeholder) {
+            model.clear();
+            placeholder = false;
+        }
+        JScrollBar bar = scroll.getVerticalScrollBar();
+        int before = list.getPreferredSize().height;
+        int value = bar.getValue();
+        for (SnsPort.CommentView c : newestFirst) {
+            if (shown.add(c.id()))
+                model.add(0, format(c));
+        }
+        scroll.getViewport().validate();
+        bar.setValue(value + list.getPreferredSize().height - before);
+    }
+
+    private void append(SnsPort.CommentView c) {
+        if (!shown.add(c.id()))
+            return;
+        if (placeholder) {
+            model.clear();
+            placeholder = false;
         }
-        if (model.isEmpty())
-            model.addElement("아직 댓글이 없습니다.");
+        model.addElement(format(c));
+        if (oldestId == 0)
+            oldestId = c.id();
+        scrollToBottom();
+    }
+
+    private void scrollToBottom() {
+        SwingUtilities.invokeLater(() -> {
+            if (!model.isEmpty())
+                list.ensureIndexIsVisible(model.size() - 1);
+        });
+    }
+
+    private void showPlaceholder(String text) {
+        model.clear();
+        model.addElement(text);
+        placeholder = true;
+    }
+
+    private static String format(SnsPort.CommentView c) {
+        return "• " + c.authorName() + ": " + c.text();
     }
 
     private void submit() {
         String txt = input.getText().trim();
-        if (txt.isEmpty())
+        if (txt.isEmpty() || !sendBtn.isEnabled())
             return;
-        // 포트의 댓글 작성 API 명칭에 맞춰 호출
-        port.addComment(myUserId, postId, txt);
-        input.setText("");
-        reload();
+        setSending(true);
+        store.addComment(postId, txt).whenComplete((created, ex) -> {
+            setSending(false);
+            if (ex != null) {
+                JOptionPane.showMessageDialog(this, "댓글 등록 실패: " + AsyncSnsPort.errorMessage(ex));
+                return;
+            }
+            input.setText(""); // 새 댓글은 저장소 이벤트로 이미 덧붙음 (전체 재조회 없음)
+        });
+    }
+
+    private void setSending(boolean sending) {
+        sendBtn.setEnabled(!sending);
+        input.setEditable(!sending);
     }
 }
@@ -0,0 +1,371 @@
+package ui;
+
+import java.awt.AWTEvent;
+import java.awt.Component;
+import java.awt.EventQueue;
+import java.awt.Toolkit;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EDT 응답성 감시.
+ * <p>
+ * 시스템 EventQueue 위에 계측용 큐를 얹어 이벤트 하나를 처리하는 데 걸린 시간을 재고, 감시 스레드가 50ms 마다 현재 처리 중인
+ * 이벤트를 확인해서 기준 시간을 넘겼으면 EDT 스택을 떠 둔다. 멈춤이 끝나면 표본 스택에서 가장 안쪽의 우리 코드 프레임(예:
+ * PostListPanel.reload, ImageViewerDialog.renderZoom)을 골라 그 경로별로 횟수/시간을 모은다. 표본의 맨 위 프레임(JDBC 소켓
+ * 읽기, ImageIO 디코딩, 레이아웃 등)도 함께 남겨 무엇 때문에 멈췄는지 보이게 한다.
+ * <p>
+ * 같은 스레드가 EDT 로 하트비트를 보내 이벤트가 큐에서 실제로 처리되기까지의 지연(사용자가 느끼는 반응 시간)도 잰다.
+ * 모달 대화상자처럼 이벤트 처리 안에서 다시 이벤트를 돌리는 경우, 바깥 이벤트는 안쪽 루프가 시작되기 전까지만 센다.
+ */
+public final class EdtMonitor {
+
+    /** 코드 경로별 멈춤 집계 */
+    public record PathStats(String path, int stalls, long totalMillis, long maxMillis, String hotFrame,
+            String lastEvent, String stack) {
+    }
+
+    /** 멈춤 한 건 */
+    public record Stall(LocalTime at, long millis, String path, String event) {
+        @Override
+        public String toString() {
+            return String.format("%s %5dms  %s  (%s)", at.format(TIME), millis, path, event);
+        }
+    }
+
+    /** 전체 요약 */
+    public record Summary(long dispatches, long slowDispatches, long maxDispatchMillis, long heartbeats,
+            long lateHeartbeats, double avgLagMillis, long maxLagMillis, List<PathStats> paths, List<Stall> recent) {
+    }
+
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HH:mm:ss");
+    private static final long TICK_MILLIS = 50;
+    private static final long LATE_HEARTBEAT_MILLIS = 100;
+    private static final int MAX_SAMPLES = 200; // 멈춤 한 건당
+    private static final int STACK_DEPTH = 24; // 보고서에 남길 프레임 수
+    private static final int RECENT = 20;
+    private static final String[] APP_PACKAGES = { "ui.", "service.", "tools." };
+
+    private static EdtMonitor instance;
+
+    private final long stallNanos;
+    private volatile Dispatch active; // EDT 에서 처리 중인 가장 안쪽 이벤트 (없으면 null)
+
+    // 아래는 모두 this 로 보호
+    private long dispatches;
+    private long slowDispatches;
+    private long maxDispatchNanos;
+    private long heartbeats;
+    private long lateHeartbeats;
+    private long lagNanosTotal;
+    private long maxLagNanos;
+    private final Map<String, PathAcc> paths = new HashMap<>();
+    private final Deque<Stall> recent = new ArrayDeque<>();
+
+    private volatile long heartbeatSentAt; // 0 이면 보낸 하트비트 없음
+
+    private EdtMonitor(long stallMillis) {
+        this.stallNanos = TimeUnit.MILLISECONDS.toNanos(stallMillis);
+    }
+
+    /** 한 번만 설치 (두 번째부터는 기존 인스턴스 반환) */
+    public static synchronized EdtMonitor install(long stallMillis) {
+        if (instance == null) {
+            EdtMonitor m = new EdtMonitor(stallMillis);
+            Toolkit.getDefaultToolkit().getSystemEventQueue().push(m.new MonitoredQueue());
+            Thread t = new Thread(m::watch, "edt-watchdog");
+            t.setDaemon(true);
+            t.start();
+            instance = m;
+        }
+        return instance;
+    }
+
+    /** 설치되지 않았으면 null */
+    public static synchronized EdtMonitor get() {
+        return instance;
+    }
+
+    public long stallMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(stallNanos);
+    }
+
+    public synchronized Summary summary() {
+        List<PathStats> list = new ArrayList<>();
+        for (Map.Entry<String, PathAcc> e : paths.entrySet()) {
+            PathAcc a = e.getValue();
+            list.add(new PathStats(e.getKey(), a.stalls, ms(a.totalNanos), ms(a.maxNanos), top(a.hotFrames),
+                    a.lastEvent, a.stack));
+        }
+        list.sort(Comparator.comparingLong(PathStats::totalMillis).reversed());
+        return new Summary(dispatches, slowDispatches, ms(maxDispatchNanos), heartbeats, lateHeartbeats,
+                heartbeats == 0 ? 0 : lagNanosTotal / 1e6 / heartbeats, ms(maxLagNanos), list, List.copyOf(recent));
+    }
+
+    /** 사람이 읽는 보고서 */
+    public String report() {
+        Summary s = summary();
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("이벤트 처리 %d건, %dms 이상 %d건, 최장 %dms%n", s.dispatches(), stallMillis(),
+                s.slowDispatches(), s.maxDispatchMillis()));
+        sb.append(String.format("하트비트 %d건, 평균 지연 %.1fms, 최대 %dms, %dms 초과 %d건%n", s.heartbeats(),
+                s.avgLagMillis(), s.maxLagMillis(), LATE_HEARTBEAT_MILLIS, s.lateHeartbeats()));
+        if (s.paths().isEmpty()) {
+            sb.append(System.lineSeparator()).append("기록된 멈춤이 없습니다.").append(System.lineSeparator());
+            return sb.toString();
+        }
+        sb.append(System.lineSeparator()).append("== 코드 경로별 (누적 시간순) ==").append(System.lineSeparator());
+        for (PathStats p : s.paths()) {
+            sb.append(String.format("%-48s %4d회  합 %6dms  최장 %5dms%n", p.path(), p.stalls(), p.totalMillis(),
+                    p.maxMillis()));
+            if (p.hotFrame() != null)
+                sb.append("    주로 멈춘 곳: ").append(p.hotFrame()).append(System.lineSeparator());
+            sb.append("    마지막 이벤트: ").append(p.lastEvent()).append(System.lineSeparator());
+        }
+        sb.append(System.lineSeparator()).append("== 최근 멈춤 ==").append(System.lineSeparator());
+        for (Stall st : s.recent())
+            sb.append(st).append(System.lineSeparator());
+        sb.append(System.lineSeparator()).append("== 경로별 대표 스택 ==").append(System.lineSeparator());
+        for (PathStats p : s.paths()) {
+            if (p.stack() != null)
+                sb.append("[").append(p.path()).append("]").append(System.lineSeparator()).append(p.stack());
+        }
+        return sb.toString();
+    }
+
+    public synchronized void reset() {
+        dispatches = slowDispatches = maxDispatchNanos = 0;
+        heartbeats = lateHeartbeats = lagNanosTotal = maxLagNanos = 0;
+        paths.clear();
+        recent.clear();
+    }
+
+    /* ========== 계측 큐 ========== */
+
+    /** 처리 중인 이벤트 하나 (감시 스레드가 표본을 붙인다) */
+    private static final class Dispatch {
+        final AWTEvent event;
+        final Thread thread;
+        final long start;
+        volatile long nestedAt; // 안쪽 이벤트 루프가 시작된 시각 (0 이면 없음)
+        final List<StackTraceElement[]> samples = new ArrayList<>(); // 보호: 자기 자신
+
+        Dispatch(AWTEvent event, Thread thread, long start) {
+            this.event = event;
+            this.thread = thread;
+            this.start = start;
+        }
+
+        long busyNanos(long end) {
+            long nested = nestedAt;
+            return (nested != 0 ? nested : end) - start;
+        }
+    }
+
+    private final class MonitoredQueue extends EventQueue {
+        @Override
+        protected void dispatchEvent(AWTEvent event) {
+            Dispatch outer = active;
+            long start = System.nanoTime();
+            if (outer != null && outer.nestedAt == 0)
+                outer.nestedAt = start; // 모달 등으로 바깥 이벤트 안에서 이벤트 루프가 돌기 시작함
+            Dispatch d = new Dispatch(event, Thread.currentThread(), start);
+            active = d;
+            try {
+                super.dispatchEvent(event);
+            } finally {
+                // 안쪽 이벤트였다면 바깥은 다음 이벤트를 기다리는 중이므로 "처리 중" 으로 되돌리지 않는다
+                active = null;
+                finished(d, System.nanoTime());
+            }
+        }
+    }
+
+    private void finished(Dispatch d, long end) {
+        long busy = d.busyNanos(end);
+        List<StackTraceElement[]> samples;
+        synchronized (d.samples) {
+            samples = d.samples.isEmpty() ? List.of() : new ArrayList<>(d.samples);
+        }
+        synchronized (this) {
+            dispatches++;
+            maxDispatchNanos = Math.max(maxDispatchNanos, busy);
+            if (busy < stallNanos)
+                return;
+            slowDispatches++;
+        }
+        recordStall(busy, describe(d.event), samples); // 문자열 작업은 락 밖에서
+    }
+
+    private void recordStall(long nanos, String event, List<StackTraceElement[]> samples) {
+        // 표본마다 가장 안쪽의 우리 코드 프레임을 세서 가장 많이 나온 것을 이 멈춤의 경로로 본다
+        Map<String, Integer> pathVotes = new LinkedHashMap<>();
+        Map<String, Integer> hot = new HashMap<>();
+        Map<String, StackTraceElement[]> example = new HashMap<>();
+        for (StackTraceElement[] st : samples) {
+            String path = appFrame(st);
+            pathVotes.merge(path, 1, Integer::sum);
+            example.putIfAbsent(path, st);
+            if (st.length > 0)
+                hot.merge(path + "\u0000" + frame(st[0]), 1, Integer::sum);
+        }
+        String path = samples.isEmpty() ? "(표본 없음) " + event : top(pathVotes);
+        Stall stall = new Stall(LocalTime.now(), ms(nanos), path, event);
+
+        synchronized (this) {
+            PathAcc a = paths.computeIfAbsent(path, k -> new PathAcc());
+            a.stalls++;
+            a.totalNanos += nanos;
+            a.maxNanos = Math.max(a.maxNanos, nanos);
+            a.lastEvent = event;
+            String prefix = path + "\u0000";
+            for (Map.Entry<String, Integer> e : hot.entrySet()) {
+                if (e.getKey().startsWith(prefix))
+                    a.hotFrames.merge(e.getKey().substring(prefix.length()), e.getValue(), Integer::sum);
+            }
+            StackTraceElement[] st = example.get(path);
+            if (st != null && (a.stack == null || nanos >= a.maxNanos))
+                a.stack = format(st); // 가장 긴 멈춤의 스택을 대표로
+            if (recent.size() == RECENT)
+                recent.removeFirst();
+            recent.addLast(stall);
+        }
+    }
+
+    private static final class PathAcc {
+        int stalls;
+        long totalNanos;
+        long maxNanos;
+        String lastEvent;
+        String stack;
+        final Map<String, Integer> hotFrames = new HashMap<>();
+    }
+
+    /* ========== 감시 스레드 ========== */
+
+    private void watch() {
+        while (true) {
+            try {
+                Thread.sleep(TICK_MILLIS);
+            } catch (InterruptedException e) {
+                return;
+            }
+            long now = System.nanoTime();
+
+            Dispatch d = active;
+            if (d != null && d.nestedAt == 0 && now - d.start >= stallNanos) {
+                StackTraceElement[] st = d.thread.getStackTrace();
+                synchronized (d.samples) {
+                    if (d.samples.size() < MAX_SAMPLES)
+                        d.samples.add(st);
+                }
+            }
+
+            if (heartbeatSentAt == 0) {
+                heartbeatSentAt = now;
+                EventQueue.invokeLater(this::heartbeat);
+            }
+        }
+    }
+
+    private void heartbeat() {
+        long lag = System.nanoTime() - heartbeatSentAt;
+        synchronized (this) {
+            heartbeats++;
+            lagNanosTotal += lag;
+            maxLagNanos = Math.max(maxLagNanos, lag);
+            if (lag >= TimeUnit.MILLISECONDS.toNanos(LATE_HEARTBEAT_MILLIS))
+                lateHeartbeats++;
+        }
+        heartbeatSentAt = 0;
+    }
+
+    /* ========== helpers ========== */
+
+    /** 가장 안쪽(스택 위쪽)의 우리 코드 프레임: "PostListPanel.reload" 형태 (줄 번호는 빼고 메서드 단위로 묶음) */
+    private static String appFrame(StackTraceElement[] st) {
+        for (StackTraceElement e : st) {
+            String cls = e.getClassName();
+            if (cls.startsWith(EdtMonitor.class.getName()))
+                continue;
+            if (cls.equals("App") || cls.startsWith("App$"))
+                return method(e);
+            for (String pkg : APP_PACKAGES) {
+                if (cls.startsWith(pkg))
+                    return method(e);
+            }
+        }
+        return "(Swing/JDK 내부)";
+    }
+
+    private static String method(StackTraceElement e) {
+        String cls = e.getClassName();
+        return cls.substring(cls.lastIndexOf('.') + 1) + "." + e.getMethodName();
+    }
+
+    private static String frame(StackTraceElement e) {
+        return method(e) + (e.getLineNumber() > 0 ? ":" + e.getLineNumber() : "");
+    }
+
+    private static String format(StackTraceElement[] st) {
+        // 계측 큐 아래(EDT 펌프 루프)는 매번 같으므로 자른다
+        int depth = st.length;
+        for (int i = 0; i < st.length; i++) {
+            if (st[i].getClassName().equals(MonitoredQueue.class.getName())) {
+                depth = i;
+                break;
+            }
+        }
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < Math.min(depth, STACK_DEPTH); i++)
+            sb.append("    at ").append(st[i]).append(System.lineSeparator());
+        if (depth > STACK_DEPTH)
+            sb.append("    ... ").append(depth - STACK_DEPTH).append(" more").append(System.lineSeparator());
+        return sb.toString();
+    }
+
+    /** "MOUSE_CLICKED on JTable" 형태 (InvocationEvent 는 "INVOCATION_DEFAULT PostListPanel$Lambda" 처럼 실행할 코드) */
+    private static String describe(AWTEvent e) {
+        String param = e.paramString();
+        int comma = param.indexOf(',');
+        String kind = comma < 0 ? param : param.substring(0, comma);
+        int runnable = param.indexOf("runnable=");
+        if (runnable >= 0) {
+            String r = param.substring(runnable + 9);
+            int end = r.indexOf(',');
+            r = end < 0 ? r : r.substring(0, end);
+            int lambda = r.indexOf("$$Lambda");
+            r = lambda >= 0 ? r.substring(0, lambda) + "$Lambda" : r.replaceFirst("@[0-9a-f]+$", "");
+            return kind + " " + r.substring(r.lastIndexOf('.') + 1);
+        }
+        Object src = e.getSource();
+        String on = src instanceof Component c && c.getName() != null ? c.getName()
+                : src == null ? "?" : src.getClass().getSimpleName();
+        return kind + " on " + on;
+    }
+
+    private static String top(Map<String, Integer> votes) {
+        String best = null;
+        int max = 0;
+        for (Map.Entry<String, Integer> e : votes.entrySet()) {
+            if (e.getValue() > max) {
+                max = e.getValue();
+                best = e.getKey();
+            }
+        }
+        return best;
+    }
+
+    private static long ms(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
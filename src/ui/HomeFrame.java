@@ -2,26 +2,27 @@ package ui;
 
 import java.awt.BorderLayout;
 import java.awt.FlowLayout;
+import java.io.File;
 import javax.swing.BorderFactory;
 import javax.swing.JFrame;
 import javax.swing.JLabel;
+import javax.swing.JOptionPane;
 import javax.swing.JPanel;
 import javax.swing.JTextField;
 
-import service.port.SnsPort;
+import service.port.AsyncSnsPort;
 import ui.theme.RoundedButton;
 import ui.theme.Theme;
 
 public class HomeFrame extends JFrame {
-    private final SnsPort port;
     private final int myUserId;
     private final String myName;
 
+    private final ClientStore store;
     private final PostListPanel listPanel;
 
-    public HomeFrame(SnsPort port, int myUserId, String myName) {
+    public HomeFrame(AsyncSnsPort port, int myUserId, String myName) {
         super("홈 · " + myName);
-        this.port = port;
         this.myUserId = myUserId;
         this.myName = myName;
 
@@ -38,7 +39,9 @@ public class HomeFrame extends JFrame {
         add(header, BorderLayout.NORTH);
 
         /* ===== 목록 ===== */
-        listPanel = new PostListPanel(port, myUserId);
+        // 목록/상세/댓글 창이 함께 보는 글·댓글 저장소 (쓰기 결과가 열린 창 모두에 바로 반영됨)
+        store = new ClientStore(port, myUserId);
+        listPanel = new PostListPanel(store);
         add(listPanel, BorderLayout.CENTER);
 
         /* ===== 하단 ===== */
@@ -57,6 +60,9 @@ public class HomeFrame extends JFrame {
         JPanel right = new JPanel(new FlowLayout(FlowLayout.RIGHT, 8, 0));
         var refreshBtn = new RoundedButton("새로고침", true);
         var writeBtn = new RoundedButton("글쓰기");
+        var diagBtn = new RoundedButton("진단", true);
+        diagBtn.setToolTipText("화면 멈춤 기록 (EDT 응답성)");
+        right.add(diagBtn);
         right.add(refreshBtn);
         right.add(writeBtn);
 
@@ -65,8 +71,9 @@ public class HomeFrame extends JFrame {
         add(bottom, BorderLayout.SOUTH);
 
         /* ===== 이벤트 ===== */
-        refreshBtn.addActionListener(e -> listPanel.reload());
+        refreshBtn.addActionListener(e -> listPanel.refresh()); // 바뀐 글만 합침 (검색 중이면 피드로 돌아감)
         searchBtn.addActionListener(e -> listPanel.search(searchField.getText().trim()));
+        diagBtn.addActionListener(e -> new ResponsivenessDialog(this).setVisible(true));
 
         // 글쓰기: 파일+텍스트 본문을 함께 저장
         writeBtn.addActionListener(e -> {
@@ -79,10 +86,18 @@ public class HomeFrame extends JFrame {
             String name = dlg.getFileName(); // null 가능
             String text = dlg.getContent(); // ★ 본문 (null 또는 빈 문자열 가능)
 
-            // SnsPort에 추가한 오버로드 사용
-            port.createPost(myUserId, path, name, text);
-
-            listPanel.reload(); // 새 글 반영
+            // SnsPort에 추가한 오버로드 사용 (저장 끝날 때까지 버튼만 잠금)
+            writeBtn.setEnabled(false);
+            store.createPost(path, name, text).whenComplete((post, ex) -> {
+                writeBtn.setEnabled(true);
+                if (ex != null) {
+                    JOptionPane.showMessageDialog(this, "글 저장 실패: " + AsyncSnsPort.errorMessage(ex));
+                    return;
+                }
+                listPanel.reveal(post.postId()); // 새 글은 저장소 이벤트로 이미 맨 위에 들어옴 (전체 재조회 없음)
+                if (path != null && name != null && !name.isBlank())
+                    ThumbnailStore.shared().generateAsync(new File(path, name).getPath()); // 단계별 썸네일 미리 생성
+            });
         });
     }
 }
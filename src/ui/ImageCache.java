@@ -0,0 +1,187 @@
+package ui;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.io.File;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 프로세스 전체가 같이 쓰는 디코딩 이미지 캐시.
+ * <p>
+ * 키는 (경로, 수정시각, 파일 크기, 목표 상자)라서 파일이 바뀌면 자연히 새로 읽는다. 강한 참조는 픽셀 바이트 합계가 예산을 넘지
+ * 않게 LRU 로 유지하고, 밀려난 항목(과 예산의 절반을 넘는 큰 이미지)은 SoftReference 로 옮겨서 GC 가 메모리를 필요로 할 때까지는
+ * 다시 쓸 수 있게 둔다. 같은 키를 여러 스레드가 동시에 요청하면 디코딩은 한 번만 한다.
+ */
+public final class ImageCache {
+
+    /** 파일을 maxW x maxH 에 맞춰 읽는 방법 (실패 시 null) */
+    public interface Loader {
+        BufferedImage load(File file, int maxW, int maxH);
+    }
+
+    /** 적중률 / 상주 바이트 (튜닝용) */
+    public record Stats(long hits, long softHits, long misses, long sharedLoads, int entries, int softEntries,
+            long residentBytes, long budgetBytes, long evictions) {
+        public double hitRatio() {
+            long total = hits + softHits + misses;
+            return total == 0 ? 0 : (double) (hits + softHits) / total;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                    "images[hit=%d soft=%d miss=%d (%.1f%%), shared=%d, entries=%d soft=%d, resident=%.1f/%.1fMB, evicted=%d]",
+                    hits, softHits, misses, hitRatio() * 100, sharedLoads, entries, softEntries,
+                    residentBytes / 1048576.0, budgetBytes / 1048576.0, evictions);
+        }
+    }
+
+    private record Key(String path, long modified, long length, int maxW, int maxH) {
+    }
+
+    private static final class SoftEntry extends SoftReference<BufferedImage> {
+        final Key key;
+
+        SoftEntry(Key key, BufferedImage image, ReferenceQueue<BufferedImage> queue) {
+            super(image, queue);
+            this.key = key;
+        }
+    }
+
+    // 힙의 1/8, 최대 96MB
+    private static final ImageCache SHARED = new ImageCache(
+            Math.min(96L << 20, Runtime.getRuntime().maxMemory() / 8));
+
+    public static ImageCache shared() {
+        return SHARED;
+    }
+
+    private final long budgetBytes;
+    private long residentBytes;
+    private final LinkedHashMap<Key, BufferedImage> strong = new LinkedHashMap<>(64, 0.75f, true);
+    private final Map<Key, SoftEntry> soft = new HashMap<>();
+    private final ReferenceQueue<BufferedImage> cleared = new ReferenceQueue<>();
+    private final ConcurrentHashMap<Key, CompletableFuture<BufferedImage>> inFlight = new ConcurrentHashMap<>();
+
+    private long hits, softHits, misses, sharedLoads, evictions;
+
+    public ImageCache(long budgetBytes) {
+        this.budgetBytes = budgetBytes;
+    }
+
+    /** 캐시에 있으면 그대로, 없으면 loader 로 읽어서 넣는다 (같은 키 동시 요청은 한 번만 읽음) */
+    public BufferedImage get(File file, int maxW, int maxH, Loader loader) {
+        if (!file.isFile())
+            return null;
+        Key key = new Key(file.getAbsolutePath(), file.lastModified(), file.length(), maxW, maxH);
+        BufferedImage img = lookup(key);
+        if (img != null)
+            return img;
+
+        CompletableFuture<BufferedImage> mine = new CompletableFuture<>();
+        CompletableFuture<BufferedImage> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            synchronized (this) {
+                sharedLoads++;
+            }
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                return null;
+            }
+        }
+        try {
+            img = loader.load(file, maxW, maxH);
+            if (img != null)
+                store(key, img);
+            mine.complete(img);
+            return img;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    public synchronized Stats stats() {
+        drainCleared();
+        return new Stats(hits, softHits, misses, sharedLoads, strong.size(), soft.size(), residentBytes, budgetBytes,
+                evictions);
+    }
+
+    public synchronized void clear() {
+        strong.clear();
+        soft.clear();
+        residentBytes = 0;
+    }
+
+    /* ========== 내부 ========== */
+
+    private synchronized BufferedImage lookup(Key key) {
+        drainCleared();
+        BufferedImage img = strong.get(key);
+        if (img != null) {
+            hits++;
+            return img;
+        }
+        SoftEntry ref = soft.get(key);
+        img = ref == null ? null : ref.get();
+        if (img != null) {
+            // GC 가 아직 안 가져갔으면 다시 강한 참조로
+            softHits++;
+            soft.remove(key);
+            store(key, img);
+            return img;
+        }
+        misses++;
+        return null;
+    }
+
+    private synchronized void store(Key key, BufferedImage img) {
+        long bytes = bytesOf(img);
+        if (bytes > budgetBytes / 2) {
+            // 예산을 혼자 차지할 만큼 큰 이미지(원본 해상도 등)는 처음부터 soft 로만
+            soft.put(key, new SoftEntry(key, img, cleared));
+            return;
+        }
+        BufferedImage old = strong.put(key, img);
+        if (old != null)
+            residentBytes -= bytesOf(old);
+        residentBytes += bytes;
+        Iterator<Map.Entry<Key, BufferedImage>> it = strong.entrySet().iterator();
+        while (residentBytes > budgetBytes && it.hasNext()) {
+            Map.Entry<Key, BufferedImage> eldest = it.next();
+            if (eldest.getKey().equals(key))
+                continue;
+            it.remove();
+            residentBytes -= bytesOf(eldest.getValue());
+            soft.put(eldest.getKey(), new SoftEntry(eldest.getKey(), eldest.getValue(), cleared));
+            evictions++;
+        }
+    }
+
+    /** GC 가 비운 soft 항목 정리 */
+    private void drainCleared() {
+        Reference<? extends BufferedImage> ref;
+        while ((ref = cleared.poll()) != null) {
+            SoftEntry e = (SoftEntry) ref;
+            soft.remove(e.key, e);
+        }
+    }
+
+    /** 래스터가 실제로 잡고 있는 바이트 */
+    private static long bytesOf(BufferedImage img) {
+        DataBuffer db = img.getRaster().getDataBuffer();
+        return (long) db.getSize() * db.getNumBanks() * DataBuffer.getDataTypeSize(db.getDataType()) / 8;
+    }
+}
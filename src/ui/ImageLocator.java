@@ -0,0 +1,225 @@
+package ui;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+/**
+ * 글에 붙은 이미지 파일 위치 인덱스.
+ * <p>
+ * 저장된 File_path, ./images, ./img, ./ 순서로 찾는데, 각 폴더는 처음 필요할 때 백그라운드에서 감시를 먼저 걸고 목록을 한
+ * 번 읽어서 파일명 집합으로 들고 있으며, 이후 생성/삭제는 WatchService 로 따라간다. 그래서 글을 열 때마다 디스크(특히 네트워크
+ * 공유)를 두드리지 않고, EDT 에서 불려도 큰 폴더 목록을 기다리지 않는다. 목록을 읽는 중이거나 감시를 걸 수 없는 폴더(없는
+ * 폴더, 감시 미지원 파일시스템)는 파일 하나만 직접 확인하되, 없다는 결과를 일정 시간 기억해서 같은 파일을 반복 확인하지 않는다.
+ * 아직 없는 폴더는 같은 주기로 다시 확인해서, 생기면 그때 감시와 목록 읽기를 시작한다. 대소문자를 구분하지 않는
+ * 파일시스템(Windows 등)의 폴더는 파일명을 소문자로 맞춰 비교한다.
+ */
+public final class ImageLocator {
+
+    private static final long NEGATIVE_TTL_MS = 60_000;
+
+    private static final ImageLocator SHARED = new ImageLocator(
+            List.of(Paths.get("images"), Paths.get("img"), Paths.get(".")));
+
+    public static ImageLocator shared() {
+        return SHARED;
+    }
+
+    /** 폴더 하나의 파일명 집합 */
+    private static final class Root {
+        final Path dir;
+        volatile Set<String> names = ConcurrentHashMap.newKeySet(); // 다시 읽을 때는 새 집합으로 통째로 바꾼다
+        final Map<String, Long> missUntil = new ConcurrentHashMap<>(); // 감시 안 되는 폴더용 부정 캐시
+        volatile boolean ignoreCase;
+        volatile boolean watched; // 감시 중이고 목록도 다 읽음 → names 가 곧 정답
+        volatile long reindexAt; // 0 이 아니면 이 시각 이후 조회 때 index 를 다시 시도 (폴더가 없었거나 사라짐)
+
+        Root(Path dir) {
+            this.dir = dir;
+        }
+
+        String key(String name) {
+            return ignoreCase ? name.toLowerCase(Locale.ROOT) : name;
+        }
+    }
+
+    private final List<Path> defaultRoots;
+    private final Map<Path, Root> roots = new ConcurrentHashMap<>();
+    private volatile WatchService watcher;
+    private final ExecutorService indexer = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "image-locator-scan");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public ImageLocator(List<Path> defaultRoots) {
+        this.defaultRoots = defaultRoots;
+    }
+
+    /** 이미지 절대 경로 (없으면 null). storedPath 는 DB 의 File_path (null 가능) */
+    public String locate(String storedPath, String fileName) {
+        if (fileName == null || fileName.isBlank())
+            return null;
+        List<Path> order = new ArrayList<>(defaultRoots.size() + 1);
+        if (storedPath != null && !storedPath.isBlank()) {
+            try {
+                order.add(Paths.get(storedPath));
+            } catch (InvalidPathException ignored) {
+                // 다른 OS 에서 저장된 경로 등
+            }
+        }
+        order.addAll(defaultRoots);
+        for (Path p : order) {
+            Root root = root(p);
+            if (contains(root, fileName))
+                return root.dir.resolve(fileName).toString();
+        }
+        return null;
+    }
+
+    /* ========== 내부 ========== */
+
+    private Root root(Path p) {
+        Path dir = p.toAbsolutePath().normalize();
+        Root r = roots.get(dir);
+        if (r != null)
+            return r;
+        Root created = new Root(dir);
+        r = roots.putIfAbsent(dir, created);
+        if (r != null)
+            return r;
+        indexer.execute(() -> index(created)); // 그동안은 contains 가 직접 확인
+        return created;
+    }
+
+    private boolean contains(Root root, String name) {
+        String key = root.key(name);
+        if (root.names.contains(key))
+            return true;
+        if (root.watched)
+            return false; // 감시 중인 폴더는 인덱스가 곧 정답
+        Long until = root.missUntil.get(key);
+        long now = System.currentTimeMillis();
+        long reindexAt = root.reindexAt;
+        if (reindexAt != 0 && reindexAt <= now) {
+            root.reindexAt = 0;
+            indexer.execute(() -> index(root)); // 폴더가 생겼으면 이번에 감시를 건다
+        }
+        if (until != null && until > now)
+            return false;
+        if (Files.isRegularFile(root.dir.resolve(name))) {
+            root.names.add(key);
+            root.missUntil.remove(key);
+            return true;
+        }
+        root.missUntil.put(key, now + NEGATIVE_TTL_MS);
+        return false;
+    }
+
+    /** 작업 스레드: 감시를 먼저 걸고 목록을 한 번 읽는다 (읽는 사이에 생긴 파일은 이벤트로 들어옴) */
+    private void index(Root root) {
+        if (!Files.isDirectory(root.dir)) {
+            root.reindexAt = System.currentTimeMillis() + NEGATIVE_TTL_MS; // 아직 없음 → 나중에 다시
+            return;
+        }
+        root.ignoreCase = ignoresCase(root.dir);
+        // 그 전에 직접 확인으로 넣은 이름은 대소문자 규칙이 다를 수 있음. 감시 이벤트가 이 집합에 바로 들어가도록 먼저 바꾼다
+        root.names = ConcurrentHashMap.newKeySet();
+        try {
+            root.dir.register(watcher(), StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_DELETE,
+                    StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException | UnsupportedOperationException e) {
+            return; // 감시할 수 없으면 계속 직접 확인
+        }
+        if (scan(root, root.names))
+            root.watched = true;
+    }
+
+    /** 폴더 목록을 into 에 넣는다. 목록을 못 읽으면 false */
+    private static boolean scan(Root root, Set<String> into) {
+        // 디렉터리를 읽을 때 함께 오는 속성으로 걸러서 파일마다 따로 확인하지 않는다
+        try (Stream<Path> files = Files.find(root.dir, 1, (p, attrs) -> attrs.isRegularFile())) {
+            files.forEach(f -> into.add(root.key(f.getFileName().toString())));
+            return true;
+        } catch (IOException | UncheckedIOException e) {
+            return false;
+        }
+    }
+
+    /** 폴더 경로의 대소문자만 바꿔도 같은 폴더로 열리면 대소문자를 구분하지 않는 파일시스템 */
+    private static boolean ignoresCase(Path dir) {
+        String s = dir.toString();
+        String upper = s.toUpperCase(Locale.ROOT);
+        String swapped = upper.equals(s) ? s.toLowerCase(Locale.ROOT) : upper;
+        if (swapped.equals(s))
+            return false; // 글자가 없는 경로라 알 수 없음
+        try {
+            return Files.isSameFile(dir, Paths.get(swapped));
+        } catch (IOException | InvalidPathException e) {
+            return false; // 바꾼 경로가 없음 → 구분함
+        }
+    }
+
+    private synchronized WatchService watcher() throws IOException {
+        if (watcher == null) {
+            watcher = FileSystems.getDefault().newWatchService();
+            Thread t = new Thread(this::watchLoop, "image-locator-watch");
+            t.setDaemon(true);
+            t.start();
+        }
+        return watcher;
+    }
+
+    private void watchLoop() {
+        while (true) {
+            WatchKey key;
+            try {
+                key = watcher.take();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+            Root root = roots.get((Path) key.watchable());
+            if (root != null) {
+                for (WatchEvent<?> ev : key.pollEvents()) {
+                    if (ev.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        // 이벤트를 놓쳤으면 폴더를 새 집합으로 다시 읽어서 바꾼다 (읽는 동안에도 조회는 옛 집합으로 답함)
+                        Set<String> fresh = ConcurrentHashMap.newKeySet();
+                        if (scan(root, fresh)) {
+                            root.names = fresh;
+                        } else {
+                            root.watched = false; // 못 읽었으면 직접 확인으로
+                        }
+                        continue;
+                    }
+                    Path name = (Path) ev.context();
+                    if (ev.kind() == StandardWatchEventKinds.ENTRY_DELETE)
+                        root.names.remove(root.key(name.toString()));
+                    else if (Files.isRegularFile(root.dir.resolve(name)))
+                        root.names.add(root.key(name.toString()));
+                }
+            }
+            if (!key.reset() && root != null) {
+                root.watched = false; // 폴더가 사라짐 → 직접 확인하다가 다시 생기면 감시를 건다
+                root.reindexAt = System.currentTimeMillis() + NEGATIVE_TTL_MS;
+            }
+        }
+    }
+}
@@ -3,7 +3,17 @@ package ui;
 import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
 import javax.swing.*;
 
 /** 이미지 로딩/스케일 유틸리티 */
@@ -20,8 +30,114 @@ public final class ImageUtils {
         }
     }
 
+    /**
+     * maxW x maxH 에 비율 유지로 맞춘 이미지 (확대하지 않음). 공유 캐시(ImageCache)를 거치고, 없으면 썸네일에서, 썸네일 단계보다
+     * 크면 서브샘플링 디코딩으로 읽는다. 화면에 파일 이미지를 띄우는 곳은 모두 이걸 쓴다. 실패 시 null
+     */
+    public static BufferedImage load(String fullPath, int maxW, int maxH) {
+        return ImageCache.shared().get(new File(fullPath), maxW, maxH, ImageUtils::loadUncached);
+    }
+
+    // 창(EDT)에서 요청한 디코딩을 맡는 스레드
+    private static final ExecutorService LOADER = Executors.newFixedThreadPool(2, r -> {
+        Thread t = new Thread(r, "image-loader");
+        t.setDaemon(true);
+        return t;
+    });
+
+    /** load 를 작업 스레드에서 실행하고 결과는 EDT 에서 완료한다 (창이 디코딩을 기다리지 않도록). 실패 시 null 로 완료 */
+    public static CompletableFuture<BufferedImage> loadAsync(String fullPath, int maxW, int maxH) {
+        CompletableFuture<BufferedImage> done = new CompletableFuture<>();
+        CompletableFuture.supplyAsync(() -> load(fullPath, maxW, maxH), LOADER)
+                .whenComplete((img, ex) -> SwingUtilities.invokeLater(() -> done.complete(ex == null ? img : null)));
+        return done;
+    }
+
+    private static BufferedImage loadUncached(File file, int maxW, int maxH) {
+        BufferedImage thumb = ThumbnailStore.shared().load(file.getPath(), maxW, maxH);
+        return thumb != null ? fit(thumb, maxW, maxH) : readScaled(file, maxW, maxH);
+    }
+
+    /* ========== 디코딩: 헤더 → 서브샘플링 ========== */
+
+    /** 헤더만 읽어서 픽셀 크기 (픽셀 디코딩 없음). 이미지가 아니면 null */
+    public static Dimension readSize(File file) {
+        try (ImageInputStream in = ImageIO.createImageInputStream(file)) {
+            ImageReader reader = readerFor(in);
+            if (reader == null)
+                return null;
+            try {
+                return new Dimension(reader.getWidth(0), reader.getHeight(0));
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /** maxW x maxH 상자에 비율 유지로 맞춰 읽기 (확대하지 않음). 실패 시 null */
+    public static BufferedImage readScaled(File file, int maxW, int maxH) {
+        BufferedImage img = readSubsampled(file, null, maxW, maxH);
+        return img == null ? null : fit(img, maxW, maxH);
+    }
+
+    private static BufferedImage fit(BufferedImage img, int maxW, int maxH) {
+        double r = Math.min(1.0, Math.min((double) maxW / img.getWidth(), (double) maxH / img.getHeight()));
+        if (r >= 1.0)
+            return img;
+        return resize(img, (int) Math.round(img.getWidth() * r), (int) Math.round(img.getHeight() * r));
+    }
+
+    /**
+     * region(원본 좌표, null 이면 전체) 을 디코딩 단계에서 솎아 읽는다. 서브샘플링 간격은 결과가 maxW x maxH 상자보다 작아지지
+     * 않는 가장 큰 정수라서, 결과는 상자에 맞춘 크기의 1~2배 (마지막 정확한 축소는 호출한 쪽에서 resize). 카메라 사진을
+     * 540px 로 볼 때 원본 전체 픽셀 버퍼를 만들지 않는다. 실패 시 null.
+     */
+    public static BufferedImage readSubsampled(File file, Rectangle region, int maxW, int maxH) {
+        try (ImageInputStream in = ImageIO.createImageInputStream(file)) {
+            ImageReader reader = readerFor(in);
+            if (reader == null)
+                return null;
+            try {
+                Rectangle bounds = new Rectangle(0, 0, reader.getWidth(0), reader.getHeight(0));
+                Rectangle r = region == null ? bounds : region.intersection(bounds);
+                if (r.isEmpty())
+                    return null;
+                double scale = Math.min(1.0, Math.min((double) maxW / r.width, (double) maxH / r.height));
+                int targetW = Math.max(1, (int) Math.round(r.width * scale));
+                int targetH = Math.max(1, (int) Math.round(r.height * scale));
+                int step = Math.max(1, Math.min(r.width / targetW, r.height / targetH));
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                if (region != null)
+                    param.setSourceRegion(r);
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException | RuntimeException e) {
+            // 깨진 파일, 지원하지 않는 색공간 등
+            return null;
+        }
+    }
+
+    private static ImageReader readerFor(ImageInputStream in) {
+        if (in == null)
+            return null;
+        Iterator<ImageReader> it = ImageIO.getImageReaders(in);
+        if (!it.hasNext())
+            return null;
+        ImageReader reader = it.next();
+        reader.setInput(in, true, true); // 첫 장만, 메타데이터 무시
+        return reader;
+    }
+
+    /* ========== 스케일 ========== */
+
     /** 긴 변 기준으로 비율 유지 스케일 */
-    public static Image scaled(BufferedImage src, int maxW, int maxH) {
+    public static BufferedImage scaled(BufferedImage src, int maxW, int maxH) {
         if (src == null)
             return null;
         double rw = (double) maxW / src.getWidth();
@@ -29,7 +145,109 @@ public final class ImageUtils {
         double r = Math.min(rw, rh);
         int w = Math.max(1, (int) Math.round(src.getWidth() * r));
         int h = Math.max(1, (int) Math.round(src.getHeight() * r));
-        return src.getScaledInstance(w, h, Image.SCALE_SMOOTH);
+        return resize(src, w, h);
+    }
+
+    /* ========== 스케일 엔진 ========== */
+
+    /** 이 픽셀 수 이상인 단계는 가로 띠로 나눠 병렬로 그린다 */
+    private static final long PARALLEL_PIXELS = 2_000_000;
+    /** 병렬 처리 시 한 작업이 맡는 최소 행 수 */
+    private static final int MIN_STRIP_ROWS = 64;
+
+    /**
+     * w x h 로 정확히 스케일한 화면 호환 BufferedImage.
+     * <p>
+     * getScaledInstance(SCALE_SMOOTH) 는 AreaAveraging 필터로 모든 원본 픽셀을 거치고, 그리는 시점에 다시 만들어지는
+     * 지연 Image 를 돌려준다. 여기서는 절반 이하로 줄일 때마다 bilinear 로 1/2 씩 나눠 줄이고(단계마다 품질 손실이 거의 없음)
+     * 마지막 한 단계로 정확한 크기를 맞춘다(확대일 때는 bicubic). 결과는 바로 그릴 수 있는 호환 이미지라 다시 스케일되지 않는다.
+     */
+    public static BufferedImage resize(BufferedImage src, int w, int h) {
+        return resize(src, w, h, 0);
+    }
+
+    /**
+     * imageType 을 지정한 버전 (파일로 저장할 썸네일처럼 화면 형식과 무관해야 할 때). 0 이면 화면 호환 형식.
+     */
+    public static BufferedImage resize(BufferedImage src, int w, int h, int imageType) {
+        w = Math.max(1, w);
+        h = Math.max(1, h);
+        boolean alpha = src.getColorModel().hasAlpha();
+        BufferedImage cur = src;
+        // 목표의 2배 이하가 될 때까지 1/2 씩 (bilinear)
+        while (cur.getWidth() / 2 >= w && cur.getHeight() / 2 >= h) {
+            BufferedImage half = newImage(cur.getWidth() / 2, cur.getHeight() / 2, alpha, imageType);
+            draw(cur, half, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            cur = half;
+        }
+        if (cur.getWidth() == w && cur.getHeight() == h && cur != src)
+            return cur;
+        // 마지막 단계: 2배 이내 축소는 bilinear 로 충분, 확대만 bicubic (소프트웨어 bicubic 은 3배쯤 느림)
+        BufferedImage dst = newImage(w, h, alpha, imageType);
+        draw(cur, dst, cur.getWidth() > w ? RenderingHints.VALUE_INTERPOLATION_BILINEAR
+                : RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+        return dst;
+    }
+
+    private static BufferedImage newImage(int w, int h, boolean alpha, int imageType) {
+        if (imageType != 0)
+            return new BufferedImage(w, h, imageType);
+        if (!GraphicsEnvironment.isHeadless()) {
+            GraphicsConfiguration gc = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice()
+                    .getDefaultConfiguration();
+            return gc.createCompatibleImage(w, h, alpha ? Transparency.TRANSLUCENT : Transparency.OPAQUE);
+        }
+        return new BufferedImage(w, h, alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+    }
+
+    /** src 전체를 dst 크기에 맞춰 그린다. 큰 이미지는 fork-join 으로 행 띠를 나눠 병렬 처리 */
+    private static void draw(BufferedImage src, BufferedImage dst, Object interpolation) {
+        long pixels = (long) dst.getWidth() * dst.getHeight();
+        if (pixels < PARALLEL_PIXELS || ForkJoinPool.getCommonPoolParallelism() < 2) {
+            drawStrip(src, dst, interpolation, 0, dst.getHeight());
+            return;
+        }
+        ForkJoinPool.commonPool().invoke(new StripTask(src, dst, interpolation, 0, dst.getHeight()));
+    }
+
+    /** dst 의 [y0, y1) 행만 그리기 (클립 밖은 계산하지 않음) */
+    private static void drawStrip(BufferedImage src, BufferedImage dst, Object interpolation, int y0, int y1) {
+        Graphics2D g = dst.createGraphics();
+        try {
+            g.setComposite(AlphaComposite.Src);
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, interpolation);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.clipRect(0, y0, dst.getWidth(), y1 - y0);
+            g.drawImage(src, 0, 0, dst.getWidth(), dst.getHeight(), null);
+        } finally {
+            g.dispose();
+        }
+    }
+
+    private static final class StripTask extends RecursiveAction {
+        private final BufferedImage src, dst;
+        private final Object interpolation;
+        private final int y0, y1;
+
+        StripTask(BufferedImage src, BufferedImage dst, Object interpolation, int y0, int y1) {
+            this.src = src;
+            this.dst = dst;
+            this.interpolation = interpolation;
+            this.y0 = y0;
+            this.y1 = y1;
+        }
+
+        @Override
+        protected void compute() {
+            int rows = y1 - y0;
+            long pixels = (long) rows * dst.getWidth();
+            if (rows <= MIN_STRIP_ROWS * 2 || pixels < PARALLEL_PIXELS / ForkJoinPool.getCommonPoolParallelism()) {
+                drawStrip(src, dst, interpolation, y0, y1);
+                return;
+            }
+            int mid = y0 + rows / 2;
+            invokeAll(new StripTask(src, dst, interpolation, y0, mid), new StripTask(src, dst, interpolation, mid, y1));
+        }
     }
 
     /** 플레이스홀더 Icon (간단 표시에 사용) */
@@ -47,6 +265,17 @@ public final class ImageUtils {
             // 배경
             g.setColor(new Color(245, 248, 255));
             g.fillRect(0, 0, w, h);
+            if (h < 80) {
+                // 목록 썸네일 크기: 테두리 + 짧은 문구 한 줄만 (제목 대신 subtitle 우선)
+                g.setColor(new Color(200, 210, 240));
+                g.drawRoundRect(1, 1, w - 3, h - 3, 8, 8);
+                g.setColor(new Color(90, 110, 170));
+                g.setFont(new Font("맑은 고딕", Font.PLAIN, Math.max(8, h / 4)));
+                String s = subtitle != null ? subtitle : title == null ? "" : title;
+                FontMetrics fm = g.getFontMetrics();
+                drawCentered(g, s, w, (h + fm.getAscent() - fm.getDescent()) / 2);
+                return img;
+            }
             // 테두리
             g.setColor(new Color(200, 210, 240));
             g.drawRoundRect(8, 8, w - 16, h - 16, 20, 20);
@@ -3,7 +3,6 @@ package ui;
 import ui.theme.RoundedButton;
 import ui.theme.Theme;
 
-import javax.imageio.ImageIO;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
@@ -14,8 +13,7 @@ import java.io.File;
 public class ImageViewerDialog extends JDialog {
     private final String fullPath; // 파일일 때만 사용
     private final String displayTitle; // 상단 제목
-    private BufferedImage original; // 원본 이미지
-    private final JLabel view = new JLabel("", SwingConstants.CENTER);
+    private final TiledImageView view = new TiledImageView(); // 보이는 타일만 그리는 피라미드 뷰
     private final JScrollPane scroll = new JScrollPane(view);
 
     private double zoom = 1.0;
@@ -37,13 +35,12 @@ public class ImageViewerDialog extends JDialog {
         this.fullPath = null;
         this.displayTitle = titleText == null ? "미리보기" : titleText;
         commonInit();
-        this.original = image;
-        if (original == null) {
-            view.setIcon(null);
-            view.setText("표시할 이미지가 없습니다.");
+        if (image == null) {
+            view.setMessage("표시할 이미지가 없습니다.");
             fitMode = false;
             zoom = 1.0;
         } else {
+            view.setImage(image);
             fitToWindow();
         }
     }
@@ -161,41 +158,37 @@ public class ImageViewerDialog extends JDialog {
     }
 
     private void loadFromPath() {
-        try {
-            original = ImageIO.read(new File(fullPath));
-        } catch (Exception e) {
-            original = null;
-        }
-        if (original == null) {
-            view.setIcon(null);
-            view.setText("이미지를 불러올 수 없습니다.\n" + fullPath);
+        // 처음에는 뷰어 크기 썸네일로 그리고, 그보다 크게 확대하면 뷰가 필요한 단계만 파일에서 읽는다
+        File file = new File(fullPath);
+        Dimension size = ImageUtils.readSize(file);
+        if (size == null) {
+            view.setMessage("이미지를 불러올 수 없습니다.\n" + fullPath);
             fitMode = false;
             zoom = 1.0;
             return;
         }
-        fitToWindow();
+        view.setMessage("불러오는 중…");
+        int px = ThumbnailStore.Size.VIEWER.px;
+        ImageUtils.loadAsync(fullPath, px, px).thenAccept(preview -> {
+            view.setSource(file, size, preview);
+            fitToWindow();
+        });
     }
 
     private void renderZoom() {
-        if (original == null)
+        if (!view.hasImage())
             return;
-        int w = (int) Math.max(1, Math.round(original.getWidth() * zoom));
-        int h = (int) Math.max(1, Math.round(original.getHeight() * zoom));
-        Image scaled = original.getScaledInstance(w, h, Image.SCALE_SMOOTH);
-        view.setIcon(new ImageIcon(scaled));
-        view.setText(null);
-        view.setPreferredSize(new Dimension(w, h));
-        view.revalidate();
+        view.setZoom(zoom);
     }
 
     private void fitToWindow() {
-        if (original == null)
+        if (!view.hasImage())
             return;
         Dimension vp = scroll.getViewport().getExtentSize();
         int availW = Math.max(100, vp.width - 16);
         int availH = Math.max(100, vp.height - 16);
-        double rw = (double) availW / original.getWidth();
-        double rh = (double) availH / original.getHeight();
+        double rw = (double) availW / view.imageWidth();
+        double rh = (double) availH / view.imageHeight();
         zoom = Math.max(MIN_ZOOM, Math.min(MAX_ZOOM, Math.min(rw, rh)));
         fitMode = true;
         renderZoom();
@@ -1,5 +1,6 @@
 package ui;
 
+import service.port.AsyncSnsPort;
 import service.port.SnsPort;
 import ui.theme.RoundedButton;
 import ui.theme.Theme;
@@ -7,18 +8,18 @@ import ui.theme.Theme;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import java.awt.*;
-import java.lang.reflect.Method; // 리플렉션을 사용하여 동적으로 메서드 존재 여부를 확인
 
 /** 로그인 화면 + 회원가입 버튼(포트에 register 없으면 안내) */
 public class LoginFrame extends JFrame { // Swing 기반의 최상위 윈도우
 
-    private final SnsPort port; // ★ 핵심: SnsPort 인터페이스에 의존하여 기능을 호출
+    private final AsyncSnsPort port; // ★ 핵심: SnsPort 를 비동기로 감싼 파사드 (DB 호출이 EDT 를 막지 않음)
     private final JTextField usernameField = new JTextField(); // 사용자 ID/이메일 입력 필드
     private final JPasswordField pwField = new JPasswordField(); // 비밀번호 입력 필드
+    private final RoundedButton loginBtn = new RoundedButton("로그인");
 
-    public LoginFrame(SnsPort port) {
+    public LoginFrame(AsyncSnsPort port) {
         super("로그인");
-        this.port = port; // 외부에서 주입된 SnsPort 구현체 (MySnsPort 또는 MemorySnsPort 등)
+        this.port = port; // 외부에서 주입된 SnsPort 구현체 (MySnsPort 또는 MemorySnsPort 등)를 감싼 것
 
         // 윈도우 기본 설정
         setDefaultCloseOperation(EXIT_ON_CLOSE);
@@ -65,7 +66,6 @@ public class LoginFrame extends JFrame { // Swing 기반의 최상위 윈도우
         var bottom = new JPanel(new FlowLayout(FlowLayout.RIGHT, 8, 8));
         bottom.setOpaque(false);
         var signupBtn = new RoundedButton("회원가입", true);
-        var loginBtn = new RoundedButton("로그인");
         bottom.add(signupBtn);
         bottom.add(loginBtn);
         add(bottom, BorderLayout.SOUTH);
@@ -92,25 +92,23 @@ public class LoginFrame extends JFrame { // Swing 기반의 최상위 윈도우
             JOptionPane.showMessageDialog(this, "아이디(또는 이메일)와 비밀번호를 입력하세요.");
             return;
         }
-        try {
+        setBusy(true);
+        // DB 조회는 작업 스레드에서, 결과 처리는 EDT 에서 (AsyncSnsPort 가 넘겨 줌)
+        port.call(p -> {
             SnsPort.UserView user = null;
-
-            // ★ 중요 로직: 동적 기능 확인 (리플렉션 사용)
-            // 1. ID에 '@'가 포함되어 있으면 loginByEmail 시도 (확장성 고려)
-            if (id.contains("@")) {
-                try {
-                    // 구현체에 loginByEmail(String, String) 메서드가 있는지 확인
-                    Method m = port.getClass().getMethod("loginByEmail", String.class, String.class);
-                    // 메서드가 있다면 리플렉션으로 호출 (없으면 NoSuchMethodException 발생)
-                    user = (SnsPort.UserView) m.invoke(port, id, pw);
-                } catch (NoSuchMethodException ignore) {
-                    // loginByEmail이 구현 안 되어 있으면 무시하고 username 로그인으로 폴백
-                }
-            }
+            // 1. ID에 '@'가 포함되어 있으면 loginByEmail 시도 (구현 안 된 포트는 기본값 null)
+            if (id.contains("@"))
+                user = p.loginByEmail(id, pw);
             // 2. loginByEmail 시도가 없었거나(null) 실패하면 port.login(ID/PW) 시도
             if (user == null)
-                user = port.login(id, pw);
-
+                user = p.login(id, pw);
+            return user;
+        }).whenComplete((user, ex) -> {
+            setBusy(false);
+            if (ex != null) {
+                JOptionPane.showMessageDialog(this, "로그인 오류: " + AsyncSnsPort.errorMessage(ex));
+                return;
+            }
             // 로그인 결과 처리
             if (user == null) {
                 JOptionPane.showMessageDialog(this, "로그인 실패: 아이디/이메일 또는 비밀번호 확인");
@@ -119,52 +117,45 @@ public class LoginFrame extends JFrame { // Swing 기반의 최상위 윈도우
             // 3. 로그인 성공: 다음 화면(HomeFrame)을 띄우고 현재 창 닫기
             new HomeFrame(port, user.userId(), user.userName()).setVisible(true);
             dispose();
-        } catch (Exception ex) {
-            JOptionPane.showMessageDialog(this, "로그인 오류: " + ex.getMessage());
-        }
+        });
+    }
+
+    /** 로그인 요청 중 표시 (중복 클릭 방지) */
+    private void setBusy(boolean busy) {
+        loginBtn.setEnabled(!busy);
+        loginBtn.setText(busy ? "로그인 중…" : "로그인");
+        setCursor(busy ? Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR) : Cursor.getDefaultCursor());
     }
 
     /** '회원가입' 버튼을 눌렀을 때 실행되는 로직 */
     private void openSignup() {
-        // 회원가입 다이얼로그를 띄우고, 가입이 완료되면 registerIfSupported 메서드를 호출하도록 콜백 등록
-        new SignupDialog(this).onSubmit((u, em, p) -> registerIfSupported(u, em, p)).setVisible(true);
+        // 회원가입 다이얼로그를 띄우고, 가입이 완료되면 register 메서드를 호출하도록 콜백 등록
+        new SignupDialog(this).onSubmit((u, em, p) -> register(u, em, p)).setVisible(true);
     }
 
-    /** SnsPort 구현체의 지원 여부를 확인하여 회원가입 메서드 호출 */
-    private void registerIfSupported(String username, String email, String password) {
-        try {
-            // ★ 중요 로직: 동적 기능 확인 및 호환성 처리 (리플렉션 사용)
-
-            // 1) 최신 규격 (3-인자: username, email, password) 지원 확인
-            try {
-                Method m3 = port.getClass().getMethod("register", String.class, String.class, String.class);
-                Object ret = m3.invoke(port, username, email, password);
-                handleRegisterResult(username, ret);
+    /** 회원가입: INSERT 는 작업 스레드에서, 결과 안내는 EDT 에서 (로그인과 같은 방식) */
+    private void register(String username, String email, String password) {
+        setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+        loginBtn.setEnabled(false);
+        port.register(username, email, password).whenComplete((user, ex) -> {
+            setCursor(Cursor.getDefaultCursor());
+            loginBtn.setEnabled(true);
+            if (ex instanceof UnsupportedOperationException) {
+                // 포트 기본 구현 (회원가입 API 없음)
+                JOptionPane.showMessageDialog(this,
+                        "현재 포트 구현에는 회원가입 API가 없습니다.\n관리자에게 문의하거나 포트에 register 메서드를 추가해 주세요.");
                 return;
-            } catch (NoSuchMethodException ignore) {
-                // 3-인자 메서드가 없으면 2)로 이동
             }
-
-            // 2) 레거시 규격 (2-인자: username, password) 지원 확인
-            try {
-                Method m2 = port.getClass().getMethod("register", String.class, String.class);
-                Object ret = m2.invoke(port, username, password);
-                handleRegisterResult(username, ret);
+            if (ex != null) {
+                JOptionPane.showMessageDialog(this, "가입 중 오류: " + AsyncSnsPort.errorMessage(ex));
                 return;
-            } catch (NoSuchMethodException ignore2) {
-                // 2-인자 메서드도 없으면 회원가입 API가 없음을 사용자에게 안내
-                JOptionPane.showMessageDialog(this,
-                        "현재 포트 구현에는 회원가입 API가 없습니다.\n관리자에게 문의하거나 포트에 register 메서드를 추가해 주세요.");
-            } catch (Exception ex2) {
-                JOptionPane.showMessageDialog(this, "가입 중 오류: " + ex2.getMessage());
             }
-        } catch (Exception ex) {
-            JOptionPane.showMessageDialog(this, "가입 중 오류: " + ex.getMessage());
-        }
+            handleRegisterResult(username, user);
+        });
     }
 
     /** 회원가입 결과에 따라 성공/실패 메시지를 표시하고 로그인 화면을 정리하는 헬퍼 메서드 */
-    private void handleRegisterResult(String username, Object ret) {
+    private void handleRegisterResult(String username, SnsPort.UserView ret) {
         if (ret == null) {
             JOptionPane.showMessageDialog(this, "이미 존재하는 사용자명(또는 이메일)입니다.");
             return;
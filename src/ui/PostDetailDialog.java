@@ -1,31 +1,35 @@
 package ui;
 
+import service.port.AsyncSnsPort;
 import service.port.SnsPort;
 import ui.theme.RoundedButton;
 import ui.theme.Theme;
 
-import javax.imageio.ImageIO;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import java.awt.*;
 import java.awt.event.KeyEvent;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
 import java.awt.image.BufferedImage;
-import java.io.File;
 
+/**
+ * 게시글 상세 (모델리스). 글은 ClientStore 에서 받고 그 글의 변경 이벤트를 구독하므로, 다른 창에서 고치면 본문이 바로 바뀌고
+ * 지워지면 창이 닫힌다. 수정/삭제 결과도 저장소를 거쳐 목록에 반영된다.
+ */
 public class PostDetailDialog extends JDialog {
 
-    private final SnsPort port;
-    private final int myUserId;
-    private final SnsPort.PostView post;
-    private final Runnable onUpdate; // 삭제/수정 시 목록 새로고침을 위한 콜백
+    private final ClientStore store;
+    private SnsPort.PostView post; // 저장소의 현재 값
+    private final JTextArea textArea;
+    private final Runnable unsubscribe;
 
-    // [수정] 생성자에 port, myUserId, onUpdate 추가
-    public PostDetailDialog(Window owner, SnsPort port, int myUserId, SnsPort.PostView post, Runnable onUpdate) {
+    private static final int IMAGE_WIDTH = 540;
+
+    public PostDetailDialog(Window owner, ClientStore store, SnsPort.PostView post) {
         super(owner, "게시글 상세", ModalityType.MODELESS);
-        this.port = port;
-        this.myUserId = myUserId;
+        this.store = store;
         this.post = post;
-        this.onUpdate = onUpdate;
 
         setDefaultCloseOperation(DISPOSE_ON_CLOSE);
         setSize(600, 700);
@@ -46,31 +50,24 @@ public class PostDetailDialog extends JDialog {
         contentPanel.add(metaLabel);
         contentPanel.add(Box.createVerticalStrut(10));
 
-        // 이미지 로드
-        String fullPath = findExistingPath(post.filePath(), post.fileName());
-        BufferedImage img = null;
-        if (fullPath != null) {
-            try {
-                img = ImageIO.read(new File(fullPath));
-            } catch (Exception ignored) {
-            }
-        } else if (post.fileName() != null && !post.fileName().isBlank()) {
-            img = ui.ImageUtils.placeholderImage(600, 400, "이미지 없음", post.fileName());
-        }
-
-        if (img != null) {
-            int maxWidth = 540;
-            int newW = maxWidth;
-            int newH = (int) ((double) img.getHeight() / img.getWidth() * maxWidth);
-            Image scaled = img.getScaledInstance(newW, newH, Image.SCALE_SMOOTH);
-            JLabel imgLabel = new JLabel(new ImageIcon(scaled));
+        // 이미지: 원본 대신 상세 폭(540)을 채우는 가장 작은 썸네일. 디코딩은 작업 스레드에서 하고 끝나면 자리를 채운다
+        String fullPath = ImageLocator.shared().locate(post.filePath(), post.fileName());
+        if (fullPath != null || (post.fileName() != null && !post.fileName().isBlank())) {
+            JLabel imgLabel = new JLabel("이미지 불러오는 중…");
+            imgLabel.setFont(Theme.fontRegular(13));
             imgLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
             contentPanel.add(imgLabel);
             contentPanel.add(Box.createVerticalStrut(15));
+            if (fullPath != null) {
+                ImageUtils.loadAsync(fullPath, IMAGE_WIDTH, Integer.MAX_VALUE) // 공유 캐시 → 썸네일 → 솎아 읽기
+                        .thenAccept(img -> showImage(imgLabel, img, fullPath));
+            } else {
+                showImage(imgLabel, ImageUtils.placeholderImage(600, 400, "이미지 없음", post.fileName()), null);
+            }
         }
 
         // 본문 텍스트
-        JTextArea textArea = new JTextArea(post.content());
+        textArea = new JTextArea(post.content());
         textArea.setFont(Theme.fontRegular(15));
         textArea.setLineWrap(true);
         textArea.setWrapStyleWord(true);
@@ -88,7 +85,7 @@ public class PostDetailDialog extends JDialog {
         bottom.setBackground(Theme.WHITE);
 
         // ★ [핵심] 내가 쓴 글이면 수정/삭제 버튼 표시
-        if (post.authorId() == myUserId) {
+        if (post.authorId() == store.userId()) {
             RoundedButton btnEdit = new RoundedButton("수정", true);
             RoundedButton btnDelete = new RoundedButton("삭제", true);
 
@@ -110,18 +107,75 @@ public class PostDetailDialog extends JDialog {
         // ESC 닫기
         getRootPane().registerKeyboardAction(e -> dispose(), KeyStroke.getKeyStroke(KeyEvent.VK_ESCAPE, 0),
                 JComponent.WHEN_IN_FOCUSED_WINDOW);
+
+        int postId = post.postId();
+        unsubscribe = store.subscribe(postId, new ClientStore.Listener() {
+            @Override
+            public void postChanged(SnsPort.PostView changed) {
+                if (changed.postId() != postId)
+                    return;
+                if (!changed.content().equals(PostDetailDialog.this.post.content()))
+                    textArea.setText(changed.content());
+                PostDetailDialog.this.post = changed;
+            }
+
+            @Override
+            public void postRemoved(int removedId) {
+                if (removedId == postId)
+                    dispose();
+            }
+        });
+    }
+
+    @Override
+    public void dispose() {
+        unsubscribe.run();
+        super.dispose();
     }
 
     // --- 동작 구현 ---
 
+    /** 읽어 온 이미지를 상세 폭으로 줄여 넣는다. 클릭하면 크게 보기 (뷰어의 첫 화면도 같은 캐시/썸네일에서 나온다) */
+    private void showImage(JLabel imgLabel, BufferedImage img, String fullPath) {
+        if (img == null) {
+            imgLabel.setText("이미지를 불러올 수 없음");
+            return;
+        }
+        int newH = (int) ((double) img.getHeight() / img.getWidth() * IMAGE_WIDTH);
+        Image scaled = ImageUtils.resize(img, IMAGE_WIDTH, newH);
+        imgLabel.setText(null);
+        imgLabel.setIcon(new ImageIcon(scaled));
+        BufferedImage viewerImage = fullPath == null ? img : null;
+        imgLabel.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
+        imgLabel.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                ImageViewerDialog viewer = viewerImage != null
+                        ? new ImageViewerDialog(PostDetailDialog.this, viewerImage, post.fileName())
+                        : new ImageViewerDialog(PostDetailDialog.this, fullPath, post.fileName());
+                viewer.setVisible(true);
+            }
+        });
+        imgLabel.revalidate();
+    }
+
     private void doDelete() {
         int confirm = JOptionPane.showConfirmDialog(this, "정말로 이 게시글을 삭제하시겠습니까?", "삭제 확인", JOptionPane.YES_NO_OPTION);
         if (confirm == JOptionPane.YES_OPTION) {
-            port.deletePost(myUserId, post.postId());
-            JOptionPane.showMessageDialog(this, "삭제되었습니다.");
-            dispose();
-            if (onUpdate != null)
-                onUpdate.run(); // 목록 새로고침
+            setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+            Window owner = getOwner(); // 삭제되면 저장소 이벤트로 이 창은 먼저 닫힌다
+            store.deletePost(post.postId()).whenComplete((deleted, ex) -> {
+                setCursor(Cursor.getDefaultCursor());
+                if (ex != null) {
+                    JOptionPane.showMessageDialog(this, "삭제 실패: " + AsyncSnsPort.errorMessage(ex));
+                    return;
+                }
+                if (!deleted) {
+                    JOptionPane.showMessageDialog(this, "삭제할 수 없습니다. (이미 삭제되었거나 내 글이 아님)");
+                    return;
+                }
+                JOptionPane.showMessageDialog(owner, "삭제되었습니다."); // 목록에서는 이벤트로 이미 빠짐
+            });
         }
     }
 
@@ -130,28 +184,21 @@ public class PostDetailDialog extends JDialog {
         String newContent = JOptionPane.showInputDialog(this, "수정할 내용을 입력하세요:", post.content());
 
         if (newContent != null && !newContent.trim().isEmpty()) {
-            port.updatePost(myUserId, post.postId(), newContent.trim());
-            JOptionPane.showMessageDialog(this, "수정되었습니다.");
-            dispose();
-            if (onUpdate != null)
-                onUpdate.run(); // 목록 새로고침
-        }
-    }
-
-    private String findExistingPath(String path, String name) {
-        if (name == null || name.isBlank())
-            return null;
-        java.util.List<String> candidates = new java.util.ArrayList<>();
-        if (path != null && !path.isBlank())
-            candidates.add(path + File.separator + name);
-        candidates.add("./images/" + name);
-        candidates.add("./img/" + name);
-        candidates.add("./" + name);
-        for (String c : candidates) {
-            File f = new File(c);
-            if (f.exists() && f.isFile())
-                return f.getAbsolutePath();
+            setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+            String text = newContent.trim();
+            store.updatePost(post.postId(), text).whenComplete((updated, ex) -> {
+                setCursor(Cursor.getDefaultCursor());
+                if (ex != null) {
+                    JOptionPane.showMessageDialog(this, "수정 실패: " + AsyncSnsPort.errorMessage(ex));
+                    return;
+                }
+                if (!updated) {
+                    JOptionPane.showMessageDialog(this, "수정할 수 없습니다. (이미 삭제되었거나 내 글이 아님)");
+                    return;
+                }
+                JOptionPane.showMessageDialog(this, "수정되었습니다."); // 본문과 목록의 행은 이벤트로 이미 바뀜
+                dispose();
+            });
         }
-        return null;
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package ui;
 
+import service.port.AsyncSnsPort;
 import service.port.SnsPort;
 import ui.theme.RoundedButton;
 import ui.theme.Theme;
@@ -12,21 +13,54 @@ import javax.swing.table.TableRowSorter;
 import java.awt.*;
 import java.awt.event.*;
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 피드/검색 목록. 글 데이터는 ClientStore 를 통해 읽고 쓰며, 저장소의 변경 이벤트(다른 창에서의 수정/삭제/댓글, 변경분
+ * 확인으로 받은 글)를 받아 해당 행만 고친다.
+ */
 public class PostListPanel extends JPanel {
 
-    private final SnsPort port;
-    private final int myUserId;
+    private final ClientStore store;
 
     private final JTable table;
     private final PostTableModel model;
     private final TableRowSorter<PostTableModel> sorter;
 
-    public PostListPanel(SnsPort port, int myUserId) {
-        this.port = port;
-        this.myUserId = myUserId;
+    // 무한 스크롤 (키셋 페이지네이션) 상태
+    private static final int PAGE_SIZE = 30;
+    private static final int PREFETCH_ROWS = 5; // 바닥에서 이 정도 행 남으면 다음 페이지 요청
+    private String keyword; // null 이면 일반 피드, 아니면 검색 결과
+    private int cursor; // 마지막으로 받은 글의 Post_id (0 = 아직 없음)
+    private boolean hasMore;
+    private boolean loading;
+    private int generation; // reload/search 때마다 증가 → 늦게 도착한 이전 요청 결과는 버림
+
+    // 변경분 새로고침: 기준점 이후의 변경만 받아 합친다. 기준점은 새로고침/검색을 넘어 유지되고 따라잡지 못할 때만 다시 받음
+    private static final int DELTA_LIMIT = 200; // 이보다 많이 바뀌었으면 처음부터 다시 읽음
+    private static final int POLL_MILLIS = 15_000;
+    private long watermark; // 0 = 아직 없음
+    private boolean refreshing;
+    private final Timer poller = new Timer(POLL_MILLIS, e -> pollChanges(true));
+
+    // 로딩 표시 (진행 중인 요청이 하나라도 있으면 보임)
+    private final JProgressBar busy = new JProgressBar();
+    private int pending;
+
+    private final Thumbnails thumbnails;
+
+    public PostListPanel(ClientStore store) {
+        this.store = store;
 
         setLayout(new BorderLayout(8, 8));
         setBackground(Theme.WHITE);
@@ -34,6 +68,10 @@ public class PostListPanel extends JPanel {
         // 상단 액션 바
         JPanel action = new JPanel(new FlowLayout(FlowLayout.RIGHT, 8, 0));
         action.setOpaque(false);
+        busy.setIndeterminate(true);
+        busy.setPreferredSize(new Dimension(80, 6));
+        busy.setVisible(false);
+        action.add(busy);
         var previewBtn = new RoundedButton("열기", true);
         var commentBtn = new RoundedButton("댓글…", true);
         var dislikeBtn = new RoundedButton("싫어요", true);
@@ -51,12 +89,26 @@ public class PostListPanel extends JPanel {
 
         sorter = new TableRowSorter<>(model);
         table.setRowSorter(sorter);
+        sorter.setSortable(PostTableModel.COL_THUMB, false);
         // ID 내림차순(최신글 위로)
-        sorter.setSortKeys(Arrays.asList(new RowSorter.SortKey(0, SortOrder.DESCENDING)));
+        sorter.setSortKeys(Arrays.asList(new RowSorter.SortKey(PostTableModel.COL_ID, SortOrder.DESCENDING)));
 
         JScrollPane sp = new JScrollPane(table);
         add(sp, BorderLayout.CENTER);
 
+        // 썸네일: 보이는 행만, 스크롤이 멈추면 읽는다
+        thumbnails = new Thumbnails();
+        table.getColumnModel().getColumn(PostTableModel.COL_THUMB).setCellRenderer(thumbnails.renderer());
+        sp.getViewport().addChangeListener(e -> thumbnails.schedule());
+        model.addTableModelListener(e -> thumbnails.schedule());
+
+        // 바닥 근처까지 스크롤하면 다음 페이지 로드
+        sp.getVerticalScrollBar().getModel().addChangeListener(e -> {
+            BoundedRangeModel m = (BoundedRangeModel) e.getSource();
+            if (m.getValue() + m.getExtent() >= m.getMaximum() - table.getRowHeight() * PREFETCH_ROWS)
+                loadNextPage();
+        });
+
         // 우클릭 메뉴
         JPopupMenu menu = new JPopupMenu();
         JMenuItem openItem = new JMenuItem("상세 보기");
@@ -78,13 +130,14 @@ public class PostListPanel extends JPanel {
         table.addMouseListener(rowSelector);
         sp.getViewport().addMouseListener(rowSelector);
 
-        // 클릭 이벤트: 작성자(1) 또는 내용(2) 클릭 시 상세 열기
+        // 클릭 이벤트: 썸네일, 작성자 또는 내용 클릭 시 상세 열기
         table.addMouseListener(new MouseAdapter() {
             @Override
             public void mouseReleased(MouseEvent e) {
                 int r = table.rowAtPoint(e.getPoint());
-                int c = table.columnAtPoint(e.getPoint());
-                if (r >= 0 && (c == 1 || c == 2)) { // 작성자 or 내용 클릭
+                int c = table.convertColumnIndexToModel(table.columnAtPoint(e.getPoint()));
+                if (r >= 0 && (c == PostTableModel.COL_THUMB || c == PostTableModel.COL_AUTHOR
+                        || c == PostTableModel.COL_CONTENT)) {
                     openDetail();
                 }
             }
@@ -112,15 +165,167 @@ public class PostListPanel extends JPanel {
         openItem.addActionListener(e -> openDetail());
         commentItem.addActionListener(e -> openComments());
 
+        // 목록과 같은 수명이라 구독 해제는 하지 않는다
+        store.subscribe(new ClientStore.Listener() {
+            @Override
+            public void postChanged(SnsPort.PostView post) {
+                model.update(post); // 목록에 없으면 무시
+            }
+
+            @Override
+            public void postAdded(SnsPort.PostView post) {
+                insertIfNewest(post);
+            }
+
+            @Override
+            public void postRemoved(int postId) {
+                model.remove(postId);
+            }
+        });
+
         reload();
     }
 
     public void reload() {
-        model.setRows(port.listRecent(myUserId, 100));
+        keyword = null;
+        resetPaging(true);
+    }
+
+    /** 새로고침 버튼: 일반 피드면 변경분만 합치고, 검색 결과 화면이거나 기준점이 아직 없으면 처음부터 다시 읽는다 */
+    public void refresh() {
+        if (keyword != null || watermark == 0)
+            reload();
+        else
+            pollChanges(false);
+    }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        poller.start(); // 화면에 붙어 있는 동안만 백그라운드 확인
+    }
+
+    @Override
+    public void removeNotify() {
+        poller.stop();
+        super.removeNotify();
     }
 
     public void search(String keyword) {
-        model.setRows(port.search(myUserId, keyword, 100));
+        this.keyword = keyword;
+        resetPaging(false);
+    }
+
+    /**
+     * 목록을 비우고 처음부터 읽는다. catchUp 이면 첫 페이지보다 먼저 기준점 이후 변경분을 받는다: 변경분이 캐시 포트
+     * (CachingSnsPort)의 페이지를 고치므로 이어지는 첫 페이지는 캐시에서 최신 값으로 나온다. 기준점이 없으면 이 요청으로
+     * 새로 받는다 (reset 이면 캐시 포트는 그 뒤 첫 페이지만 원본에서 다시 읽음).
+     */
+    private void resetPaging(boolean catchUp) {
+        generation++;
+        cursor = 0;
+        hasMore = true;
+        refreshing = false;
+        thumbnails.cancelAll();
+        model.setRows(List.of());
+        store.evictUnpinned(); // 목록이 보여 주던 글은 더 붙잡지 않는다
+        if (!catchUp) {
+            loading = false;
+            loadNextPage();
+            return;
+        }
+        loading = true; // 변경분을 반영할 때까지 스크롤로 페이지를 읽지 않음
+        int gen = generation;
+        track(store.changesSince(watermark, DELTA_LIMIT)).whenComplete((delta, ex) -> {
+            if (gen != generation)
+                return;
+            if (ex == null)
+                watermark = delta.watermark();
+            loading = false;
+            loadNextPage(); // 변경분을 못 받아도 목록은 읽는다
+        });
+    }
+
+    /**
+     * 기준점 이후 변경분을 받는다. 목록에 합치는 일은 저장소 이벤트가 한다: 지워진 글은 빼고, 보이는 글은 그 행만 바꾸고, 맨
+     * 위 글보다 새 글은 위에 끼운다. quiet 이면 (주기 확인) 실패해도 알리지 않는다.
+     */
+    private void pollChanges(boolean quiet) {
+        if (watermark == 0 || refreshing || loading)
+            return; // 검색 화면에서도 확인한다 (보이는 행과 캐시를 고침, 새 글은 끼우지 않음)
+        refreshing = true;
+        int gen = generation;
+        var request = store.changesSince(watermark, DELTA_LIMIT);
+        (quiet ? request : track(request)).whenComplete((delta, ex) -> {
+            if (gen != generation)
+                return;
+            refreshing = false;
+            if (ex != null) {
+                if (!quiet)
+                    JOptionPane.showMessageDialog(this, "새로고침 실패: " + AsyncSnsPort.errorMessage(ex));
+                return;
+            }
+            if (delta.reset()) {
+                // 따라잡을 수 없을 만큼 바뀜: 일반 피드는 새 기준점으로 다시 읽고, 검색 화면은 다음 새로고침까지 확인을 멈춤
+                watermark = 0;
+                if (keyword == null)
+                    reload();
+                return;
+            }
+            watermark = delta.watermark();
+        });
+    }
+
+    /**
+     * 새 글을 맨 위에 끼운다 (일반 피드에서, 맨 위 글보다 새 글만). 아직 받지 않은 오래된 구간의 글은 스크롤해서 읽을 때
+     * 들어오고, 첫 페이지를 읽는 중이면 그 페이지에 들어 있으므로 버린다.
+     */
+    private void insertIfNewest(SnsPort.PostView post) {
+        if (keyword != null || model.indexOf(post.postId()) >= 0)
+            return;
+        int newest = model.getRowCount() > 0 ? model.getAt(0).postId() : 0;
+        if (post.postId() > newest && (newest > 0 || !hasMore))
+            model.insertFirst(post);
+    }
+
+    /** 다음 페이지(cursor 보다 오래된 글)를 가져와 목록 끝에 붙인다 */
+    private void loadNextPage() {
+        if (loading || !hasMore)
+            return;
+        loading = true;
+        int gen = generation;
+        var request = keyword == null ? store.listRecentPage(cursor, PAGE_SIZE)
+                : store.searchPage(keyword, cursor, PAGE_SIZE);
+        track(request).whenComplete((page, ex) -> {
+            if (gen != generation)
+                return; // 그 사이 새로고침/검색이 다시 시작됨
+            loading = false;
+            if (ex != null) {
+                hasMore = false;
+                JOptionPane.showMessageDialog(this, "목록을 불러오지 못했습니다: " + AsyncSnsPort.errorMessage(ex));
+                return;
+            }
+            hasMore = page.size() == PAGE_SIZE;
+            if (!page.isEmpty()) {
+                cursor = page.get(page.size() - 1).postId();
+                model.appendRows(page);
+            }
+            // 첫 페이지가 화면을 다 채우지 못하면 스크롤 이벤트가 안 생기므로 한 번 더 확인
+            SwingUtilities.invokeLater(() -> {
+                if (hasMore && table.getPreferredSize().height <= table.getParent().getHeight())
+                    loadNextPage();
+            });
+        });
+    }
+
+    /** 요청이 끝날 때까지 로딩 표시 */
+    private <T> CompletableFuture<T> track(CompletableFuture<T> f) {
+        pending++;
+        busy.setVisible(true);
+        return f.whenComplete((v, ex) -> {
+            if (--pending == 0)
+                busy.setVisible(false);
+        });
     }
 
     private int ensureSelected() {
@@ -141,11 +346,25 @@ public class PostListPanel extends JPanel {
             return;
         int mr = table.convertRowIndexToModel(vr);
         var p = model.getAt(mr);
-        var state = port.toggleReaction(myUserId, p.postId(), type);
-        reload();
-        if (vr < table.getRowCount())
-            table.setRowSelectionInterval(vr, vr);
-        JOptionPane.showMessageDialog(this, "현재 내 상태: " + state);
+
+        // 예상 결과 반영/실패 시 되돌리기는 저장소가 하고, 행은 그 이벤트로 바뀐다
+        track(store.toggleReaction(p.postId(), type)).whenComplete((r, ex) -> {
+            if (ex != null) {
+                JOptionPane.showMessageDialog(this, "반응 처리 실패: " + AsyncSnsPort.errorMessage(ex));
+                return;
+            }
+            JOptionPane.showMessageDialog(this, "현재 내 상태: " + r.myState());
+        });
+    }
+
+    /** 방금 쓴 글로 선택을 옮긴다 (행은 저장소의 새 글 이벤트로 이미 들어와 있음, 검색 결과 화면이면 없음) */
+    public void reveal(int postId) {
+        int r = model.indexOf(postId);
+        if (r < 0)
+            return;
+        int vr = table.convertRowIndexToView(r);
+        table.setRowSelectionInterval(vr, vr);
+        table.scrollRectToVisible(table.getCellRect(vr, 0, true));
     }
 
     private void openDetail() {
@@ -155,11 +374,8 @@ public class PostListPanel extends JPanel {
         int mr = table.convertRowIndexToModel(vr);
         var p = model.getAt(mr);
 
-        // [수정] port, myUserId, 그리고 콜백(reload 메서드)을 전달합니다.
-        // 상세 창에서 글을 수정하거나 삭제하면 -> 목록을 다시 불러옵니다(this::reload).
-        new PostDetailDialog(SwingUtilities.getWindowAncestor(this), port, myUserId, p, this::reload // <- 수정/삭제 후 실행할
-                                                                                                     // 동작 (새로고침)
-        ).setVisible(true);
+        // 상세 창에서 글을 수정하거나 삭제하면 저장소 이벤트로 목록의 그 행만 바뀌거나 빠진다
+        new PostDetailDialog(SwingUtilities.getWindowAncestor(this), store, p).setVisible(true);
     }
 
     private void openComments() {
@@ -169,12 +385,13 @@ public class PostListPanel extends JPanel {
         int mr = table.convertRowIndexToModel(vr);
         var p = model.getAt(mr);
 
-        new CommentDialog(SwingUtilities.getWindowAncestor(this), port, myUserId, p.postId(), p.authorName(),
-                p.fileName()).setVisible(true);
+        // 댓글을 달면 저장소가 그 글의 댓글 수를 올리고, 목록은 이벤트로 그 행만 바꾼다 (재조회 없음)
+        new CommentDialog(SwingUtilities.getWindowAncestor(this), store, p.postId(), p.authorName(), p.fileName())
+                .setVisible(true);
     }
 
     private static void styleTable(JTable t) {
-        t.setRowHeight(32);
+        t.setRowHeight(Thumbnails.SIZE + 4);
         t.setFillsViewportHeight(true);
         t.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
         t.setDefaultEditor(Object.class, null);
@@ -185,34 +402,184 @@ public class PostListPanel extends JPanel {
         var center = new DefaultTableCellRenderer();
         center.setHorizontalAlignment(SwingConstants.CENTER);
 
-        // [수정] 파일명이 빠져서 총 7개 컬럼 (0~6)
-        // 0:ID, 1:작성자, 2:내용, 3:업로드, 4:좋아요, 5:싫어요, 6:내상태
-        t.getColumnModel().getColumn(0).setCellRenderer(center); // ID
-        t.getColumnModel().getColumn(4).setCellRenderer(center); // 좋아요
-        t.getColumnModel().getColumn(5).setCellRenderer(center); // 싫어요
-        t.getColumnModel().getColumn(6).setCellRenderer(center); // 내상태
+        var cm = t.getColumnModel();
+        cm.getColumn(PostTableModel.COL_ID).setCellRenderer(center);
+        cm.getColumn(PostTableModel.COL_LIKE).setCellRenderer(center);
+        cm.getColumn(PostTableModel.COL_DISLIKE).setCellRenderer(center);
+        cm.getColumn(PostTableModel.COL_COMMENTS).setCellRenderer(center);
+        cm.getColumn(PostTableModel.COL_STATE).setCellRenderer(center);
 
         // [수정] 너비 재조정 (내용을 더 넓게)
-        t.getColumnModel().getColumn(0).setPreferredWidth(40); // ID
-        t.getColumnModel().getColumn(1).setPreferredWidth(80); // 작성자
-        t.getColumnModel().getColumn(2).setPreferredWidth(400); // 내용 (아주 넓게)
-        t.getColumnModel().getColumn(3).setPreferredWidth(120); // 시간
-        t.getColumnModel().getColumn(4).setPreferredWidth(50); // 좋아요
-        t.getColumnModel().getColumn(5).setPreferredWidth(50); // 싫어요
-        t.getColumnModel().getColumn(6).setPreferredWidth(60); // 상태
+        cm.getColumn(PostTableModel.COL_ID).setPreferredWidth(40);
+        cm.getColumn(PostTableModel.COL_THUMB).setPreferredWidth(Thumbnails.SIZE + 8);
+        cm.getColumn(PostTableModel.COL_THUMB).setMaxWidth(Thumbnails.SIZE + 16);
+        cm.getColumn(PostTableModel.COL_AUTHOR).setPreferredWidth(80);
+        cm.getColumn(PostTableModel.COL_CONTENT).setPreferredWidth(400); // 내용 (아주 넓게)
+        cm.getColumn(PostTableModel.COL_TIME).setPreferredWidth(120);
+        cm.getColumn(PostTableModel.COL_LIKE).setPreferredWidth(50);
+        cm.getColumn(PostTableModel.COL_DISLIKE).setPreferredWidth(50);
+        cm.getColumn(PostTableModel.COL_COMMENTS).setPreferredWidth(50);
+        cm.getColumn(PostTableModel.COL_STATE).setPreferredWidth(60);
+    }
+
+    /* ===== 썸네일 칸 ===== */
+
+    /**
+     * 뷰포트에 보이는 행의 썸네일만 EDT 밖에서 읽는다. 스크롤 중에는 80ms 동안 조용해질 때까지 미루고, 화면에서 벗어난 행의 대기
+     * 작업은 취소하므로 수천 개의 이미지 글을 훑어도 디코딩은 멈춘 화면의 행 수만큼만 일어난다. 다 읽은 아이콘은 postId 별로 LRU
+     * 에 둔다 (이미지 자체는 ImageUtils.load 의 공유 캐시/썸네일 저장소를 거친다).
+     */
+    private final class Thumbnails {
+        static final int SIZE = 40;
+        private static final int MAX_ICONS = 500;
+
+        private final ExecutorService loader;
+        private final Timer debounce = new Timer(80, e -> loadVisible());
+        private final Icon loadingIcon = ImageUtils.placeholder(SIZE, SIZE, "…");
+        private final Icon missingIcon = ImageUtils.placeholder(SIZE, SIZE, "없음");
+        private final Map<Integer, Future<?>> inFlight = new HashMap<>(); // postId → 작업 (EDT 전용)
+        private final Map<Integer, Icon> icons = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Icon> eldest) {
+                return size() > MAX_ICONS;
+            }
+        };
+
+        Thumbnails() {
+            debounce.setRepeats(false);
+            AtomicInteger seq = new AtomicInteger();
+            loader = Executors.newFixedThreadPool(2, r -> {
+                Thread t = new Thread(r, "feed-thumb-" + seq.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+        }
+
+        DefaultTableCellRenderer renderer() {
+            var r = new DefaultTableCellRenderer() {
+                @Override
+                protected void setValue(Object value) {
+                    setText(null);
+                    setIcon(value instanceof SnsPort.PostView p ? iconFor(p) : null);
+                }
+            };
+            r.setHorizontalAlignment(SwingConstants.CENTER);
+            return r;
+        }
+
+        /** 그리기용: 읽어 둔 아이콘, 아니면 자리표시 (여기서는 읽기를 시작하지 않음) */
+        private Icon iconFor(SnsPort.PostView p) {
+            if (p.fileName() == null || p.fileName().isBlank())
+                return null;
+            Icon icon = icons.get(p.postId());
+            return icon != null ? icon : loadingIcon;
+        }
+
+        void schedule() {
+            debounce.restart();
+        }
+
+        void cancelAll() {
+            for (Future<?> f : inFlight.values())
+                f.cancel(false);
+            inFlight.clear();
+        }
+
+        /** 보이는 행 중 아직 없는 썸네일만 요청, 벗어난 행의 대기 작업은 취소 */
+        private void loadVisible() {
+            Map<Integer, SnsPort.PostView> visible = new HashMap<>();
+            Rectangle vis = table.getVisibleRect();
+            int first = table.rowAtPoint(vis.getLocation());
+            int last = table.rowAtPoint(new Point(vis.x, vis.y + vis.height - 1));
+            if (first >= 0) {
+                if (last < 0)
+                    last = table.getRowCount() - 1;
+                for (int vr = first; vr <= last; vr++) {
+                    var p = model.getAt(table.convertRowIndexToModel(vr));
+                    if (p.fileName() != null && !p.fileName().isBlank() && !icons.containsKey(p.postId()))
+                        visible.put(p.postId(), p);
+                }
+            }
+            inFlight.entrySet().removeIf(en -> {
+                if (visible.containsKey(en.getKey()))
+                    return false;
+                en.getValue().cancel(false); // 아직 시작 안 했으면 디코딩 자체가 없어짐
+                return true;
+            });
+            for (var p : visible.values()) {
+                if (!inFlight.containsKey(p.postId()))
+                    inFlight.put(p.postId(), loader.submit(() -> load(p)));
+            }
+        }
+
+        /** 작업 스레드: 위치 찾기 → 목록 크기 썸네일 → EDT 에서 해당 칸만 갱신 */
+        private void load(SnsPort.PostView p) {
+            String path = ImageLocator.shared().locate(p.filePath(), p.fileName());
+            var img = path == null ? null : ImageUtils.load(path, SIZE, SIZE);
+            Icon icon = img == null ? missingIcon : new ImageIcon(img);
+            SwingUtilities.invokeLater(() -> {
+                inFlight.remove(p.postId());
+                icons.put(p.postId(), icon);
+                int r = model.indexOf(p.postId());
+                if (r >= 0)
+                    model.fireTableCellUpdated(r, PostTableModel.COL_THUMB);
+            });
+        }
     }
 
     /* ===== TableModel ===== */
     static class PostTableModel extends AbstractTableModel {
-        // [수정] 화면에 보이는 컬럼 목록에서 "파일명"을 제거했습니다.
-        private final String[] cols = { "ID", "작성자", "내용", "업로드", "좋아요", "싫어요", "내상태" };
-        private List<SnsPort.PostView> rows = List.of();
+        static final int COL_ID = 0, COL_THUMB = 1, COL_AUTHOR = 2, COL_CONTENT = 3, COL_TIME = 4, COL_LIKE = 5,
+                COL_DISLIKE = 6, COL_COMMENTS = 7, COL_STATE = 8;
+
+        // 파일명 대신 썸네일 칸 (값은 PostView 자체, 렌더러가 아이콘으로 그림)
+        private final String[] cols = { "ID", "사진", "작성자", "내용", "업로드", "좋아요", "싫어요", "댓글", "내상태" };
+        private final List<SnsPort.PostView> rows = new ArrayList<>();
 
         public void setRows(List<SnsPort.PostView> list) {
-            rows = list;
+            rows.clear();
+            rows.addAll(list);
             fireTableDataChanged();
         }
 
+        public void appendRows(List<SnsPort.PostView> list) {
+            if (list.isEmpty())
+                return;
+            int first = rows.size();
+            rows.addAll(list);
+            fireTableRowsInserted(first, rows.size() - 1);
+        }
+
+        public void insertFirst(SnsPort.PostView p) {
+            rows.add(0, p);
+            fireTableRowsInserted(0, 0);
+        }
+
+        /** 같은 postId 행을 교체 (목록에 없으면 무시) */
+        public void update(SnsPort.PostView p) {
+            int r = indexOf(p.postId());
+            if (r < 0)
+                return;
+            rows.set(r, p);
+            fireTableRowsUpdated(r, r);
+        }
+
+        public void remove(int postId) {
+            int r = indexOf(postId);
+            if (r < 0)
+                return;
+            rows.remove(r);
+            fireTableRowsDeleted(r, r);
+        }
+
+        int indexOf(int postId) {
+            for (int i = 0; i < rows.size(); i++) {
+                if (rows.get(i).postId() == postId)
+                    return i;
+            }
+            return -1;
+        }
+
         public SnsPort.PostView getAt(int r) {
             return rows.get(r);
         }
@@ -235,16 +602,16 @@ public class PostListPanel extends JPanel {
         @Override
         public Object getValueAt(int r, int c) {
             var p = rows.get(r);
-            // [수정] 파일명 케이스를 제거하고 순서를 당겼습니다.
             return switch (c) {
-            case 0 -> p.postId();
-            case 1 -> p.authorName();
-            case 2 -> p.content(); // 내용
-            // case 파일명 -> 제외됨 (화면엔 안 보이지만 p 객체엔 데이터가 있음)
-            case 3 -> p.uploadTime();
-            case 4 -> p.likeCount();
-            case 5 -> p.dislikeCount();
-            case 6 -> p.myState();
+            case COL_ID -> p.postId();
+            case COL_THUMB -> p;
+            case COL_AUTHOR -> p.authorName();
+            case COL_CONTENT -> p.content();
+            case COL_TIME -> p.uploadTime();
+            case COL_LIKE -> p.likeCount();
+            case COL_DISLIKE -> p.dislikeCount();
+            case COL_COMMENTS -> p.commentCount();
+            case COL_STATE -> p.myState();
             default -> "";
             };
         }
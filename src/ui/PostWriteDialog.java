@@ -4,7 +4,6 @@ import java.awt.*;
 import java.awt.event.KeyEvent;
 import java.awt.image.BufferedImage;
 import java.io.File;
-import javax.imageio.ImageIO;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import javax.swing.border.LineBorder;
@@ -22,6 +21,7 @@ public class PostWriteDialog extends JDialog {
     private final JTextArea taContent = new JTextArea();
 
     private boolean approved = false;
+    private String previewPath; // 마지막으로 요청한 미리보기 (늦게 끝난 이전 요청은 버림)
 
     public PostWriteDialog(Window owner) {
         super(owner, "글쓰기", ModalityType.APPLICATION_MODAL);
@@ -220,24 +220,27 @@ public class PostWriteDialog extends JDialog {
     }
 
     private void loadPreview(String fullPath) {
-        try {
-            BufferedImage src = ImageIO.read(new File(fullPath));
-            if (src == null)
-                throw new Exception("not image");
-
-            int boxW = preview.getPreferredSize().width;
-            int boxH = preview.getPreferredSize().height;
+        int boxW = preview.getPreferredSize().width;
+        int boxH = preview.getPreferredSize().height;
+        previewPath = fullPath;
+        preview.setIcon(null);
+        preview.setText("불러오는 중…");
+        // 미리보기 크기로 작업 스레드에서 읽는다 (처음 보는 파일이면 썸네일 생성도 이때 예약되어 글 저장 전에 끝나 있음)
+        ImageUtils.loadAsync(fullPath, boxW, boxH).thenAccept(src -> {
+            if (!fullPath.equals(previewPath))
+                return;
+            if (src == null) {
+                preview.setText("<html><div style='color:#c00;'>이미지를 불러올 수 없음</div></html>");
+                return;
+            }
             double scale = Math.min((double) boxW / src.getWidth(), (double) boxH / src.getHeight());
             int w = Math.max(1, (int) Math.round(src.getWidth() * scale));
             int h = Math.max(1, (int) Math.round(src.getHeight() * scale));
 
-            Image scaled = src.getScaledInstance(w, h, Image.SCALE_SMOOTH);
+            Image scaled = ImageUtils.resize(src, w, h);
             preview.setIcon(new ImageIcon(scaled));
             preview.setText(null);
-        } catch (Exception ex) {
-            preview.setIcon(null);
-            preview.setText("<html><div style='color:#c00;'>이미지를 불러올 수 없음</div></html>");
-        }
+        });
     }
 
     private static JPanel wrap(JComponent c, int t, int l, int b, int r) {
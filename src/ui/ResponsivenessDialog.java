@@ -0,0 +1,59 @@
+package ui;
+
+import ui.theme.RoundedButton;
+import ui.theme.Theme;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import java.awt.*;
+
+/** EDT 멈춤 요약 보기 (EdtMonitor 보고서 + 이미지 캐시 상태) */
+public class ResponsivenessDialog extends JDialog {
+
+    private final JTextArea text = new JTextArea();
+
+    public ResponsivenessDialog(Window owner) {
+        super(owner, "응답성 진단", ModalityType.MODELESS);
+        setSize(820, 560);
+        setLocationRelativeTo(owner);
+        setLayout(new BorderLayout());
+        getContentPane().setBackground(Theme.WHITE);
+
+        text.setEditable(false);
+        text.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 12));
+        text.setBorder(new EmptyBorder(8, 8, 8, 8));
+        add(new JScrollPane(text), BorderLayout.CENTER);
+
+        JPanel south = new JPanel(new FlowLayout(FlowLayout.RIGHT, 8, 0));
+        south.setBorder(new EmptyBorder(8, 8, 8, 8));
+        south.setOpaque(false);
+        var refreshBtn = new RoundedButton("새로고침", true);
+        var resetBtn = new RoundedButton("초기화", true);
+        var closeBtn = new RoundedButton("닫기");
+        south.add(refreshBtn);
+        south.add(resetBtn);
+        south.add(closeBtn);
+        add(south, BorderLayout.SOUTH);
+
+        refreshBtn.addActionListener(e -> refresh());
+        resetBtn.addActionListener(e -> {
+            EdtMonitor m = EdtMonitor.get();
+            if (m != null)
+                m.reset();
+            refresh();
+        });
+        closeBtn.addActionListener(e -> dispose());
+
+        refresh();
+    }
+
+    private void refresh() {
+        EdtMonitor m = EdtMonitor.get();
+        StringBuilder sb = new StringBuilder();
+        sb.append(m == null ? "EDT 감시가 설치되지 않았습니다 (EdtMonitor.install)." + System.lineSeparator()
+                : m.report());
+        sb.append(System.lineSeparator()).append(ImageCache.shared().stats()).append(System.lineSeparator());
+        text.setText(sb.toString());
+        text.setCaretPosition(0);
+    }
+}
@@ -0,0 +1,258 @@
+package ui;
+
+import java.awt.Dimension;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.imageio.ImageIO;
+
+/**
+ * 고정 크기 썸네일 디스크 캐시.
+ * <p>
+ * 글을 올릴 때(또는 처음 볼 때) 원본을 한 번만 디코딩해서 목록/미리보기/상세/뷰어용 크기로 줄여 ./.thumbs 에 저장한다.
+ * 파일명은 원본 내용의 SHA-256 이라서 같은 사진을 여러 번 올려도 한 벌만 생긴다. 경로+크기+수정시각 → 해시 매핑은
+ * index.properties 에 기록해 두므로, 이미 만든 썸네일을 찾을 때는 원본을 다시 읽지 않는다.
+ * <p>
+ * 해시 계산과 생성은 thumbnail-writer 스레드에서만 한다. load 는 인덱스와 이미 있는 파일만 보고, 아직 없으면 생성을 예약한 뒤
+ * null 을 돌려주므로(호출한 쪽은 서브샘플링 읽기로 대신함) 화면 쪽 호출이 생성이나 다른 파일의 생성을 기다리지 않는다.
+ */
+public final class ThumbnailStore {
+
+    /** 썸네일 단계 (긴 변 기준 픽셀) */
+    public enum Size {
+        LIST(64), PREVIEW(220), DETAIL(540), VIEWER(1280);
+
+        public final int px;
+
+        Size(int px) {
+            this.px = px;
+        }
+    }
+
+    private static final ThumbnailStore SHARED = new ThumbnailStore(new File(".thumbs"));
+
+    public static ThumbnailStore shared() {
+        return SHARED;
+    }
+
+    /** 원본 하나의 메타데이터 (내용 해시 + 원본 크기) */
+    private record Meta(String hash, int width, int height) {
+    }
+
+    private final File dir;
+    private final File indexFile;
+    private final Properties index = new Properties(); // "절대경로|길이|수정시각" → "해시,가로,세로" (동시 읽기 안전)
+    private final ConcurrentHashMap<String, CompletableFuture<Meta>> inFlight = new ConcurrentHashMap<>(); // 키별 생성 작업
+    private final Set<String> failed = ConcurrentHashMap.newKeySet(); // 만들 수 없었던 키 (이번 실행 동안 다시 시도 안 함)
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "thumbnail-writer");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public ThumbnailStore(File dir) {
+        this.dir = dir;
+        this.indexFile = new File(dir, "index.properties");
+        if (indexFile.isFile()) {
+            try (InputStream in = new FileInputStream(indexFile)) {
+                index.load(in);
+            } catch (IOException ignored) {
+                // 인덱스가 깨졌으면 다시 만들면 됨
+            }
+        }
+    }
+
+    /**
+     * 업로드 직후(또는 처음 볼 때) 호출: 백그라운드에서 모든 단계 썸네일 생성. 같은 원본에 대한 요청은 진행 중인 작업 하나를
+     * 함께 기다린다. 이미지가 아니거나 만들 수 없으면 null 로 완료.
+     */
+    public CompletableFuture<Void> generateAsync(String fullPath) {
+        File src = new File(fullPath);
+        return src.isFile() ? generate(src, key(src)).thenApply(m -> null) : CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * maxW x maxH 상자를 채울 수 있는 가장 작은 썸네일을 돌려준다. 요청이 가장 큰 단계보다 크면 null (원본을 써야 함).
+     * 썸네일이 아직 없으면 백그라운드 생성을 예약하고 null 이라서, 이번에는 호출한 쪽이 원본을 솎아 읽는다. 이미지가 아니거나
+     * 읽을 수 없어도 null.
+     */
+    public BufferedImage load(String fullPath, int maxW, int maxH) {
+        File src = new File(fullPath);
+        if (!src.isFile())
+            return null;
+        String key = key(src);
+        Meta m = indexed(key);
+        if (m == null) {
+            generate(src, key);
+            return null;
+        }
+        // 원본을 상자에 맞춘 크기의 긴 변
+        double r = Math.min(1.0, Math.min((double) maxW / m.width, (double) maxH / m.height));
+        int needed = (int) Math.ceil(Math.max(m.width, m.height) * r);
+        for (Size s : Size.values()) {
+            if (s.px >= needed) {
+                File f = existingThumb(m.hash, s);
+                try {
+                    BufferedImage img = f == null ? null : ImageIO.read(f);
+                    if (img != null)
+                        return img;
+                } catch (IOException e) {
+                    // 깨진 썸네일 → 아래에서 다시 만든다
+                }
+                // 썸네일 폴더를 지웠거나 깨진 경우 → 인덱스에서 빼고 다시 생성
+                if (f != null)
+                    f.delete();
+                index.remove(key);
+                generate(src, key);
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /** 원본 픽셀 크기 (인덱스에 기록된 값, 없으면 헤더만 읽음). 읽을 수 없으면 null */
+    public Dimension originalSize(String fullPath) {
+        File src = new File(fullPath);
+        Meta m = src.isFile() ? indexed(key(src)) : null;
+        return m != null ? new Dimension(m.width, m.height) : ImageUtils.readSize(src);
+    }
+
+    /* ========== 내부 ========== */
+
+    private static String key(File src) {
+        return src.getAbsolutePath() + "|" + src.length() + "|" + src.lastModified();
+    }
+
+    /** 인덱스에 기록된 해시/크기 (파일을 읽지 않음). 없으면 null */
+    private Meta indexed(String key) {
+        String v = index.getProperty(key);
+        if (v == null)
+            return null;
+        String[] parts = v.split(",");
+        return new Meta(parts[0], Integer.parseInt(parts[1]), Integer.parseInt(parts[2]));
+    }
+
+    /** 키 하나의 생성 작업 (진행 중이면 그것을 돌려줌). 해시 계산 + 썸네일 생성 + 인덱스 기록은 모두 작업 스레드에서 */
+    private CompletableFuture<Meta> generate(File src, String key) {
+        if (failed.contains(key))
+            return CompletableFuture.completedFuture(null);
+        CompletableFuture<Meta> mine = new CompletableFuture<>();
+        CompletableFuture<Meta> running = inFlight.putIfAbsent(key, mine);
+        if (running != null)
+            return running;
+        worker.execute(() -> {
+            Meta m = null;
+            try {
+                m = indexed(key);
+                if (m == null) {
+                    m = writeThumbnails(src, sha256(src));
+                    if (m == null) {
+                        failed.add(key);
+                    } else {
+                        index.setProperty(key, m.hash + "," + m.width + "," + m.height);
+                        saveIndex();
+                    }
+                }
+            } catch (IOException e) {
+                e.printStackTrace();
+                failed.add(key);
+            } finally {
+                inFlight.remove(key, mine);
+                mine.complete(m);
+            }
+        });
+        return mine;
+    }
+
+    /**
+     * 원본을 가장 큰 단계 크기로 서브샘플링 디코딩 한 번 한 뒤, 큰 단계부터 차례로 줄여 저장 (이미 있는 단계는 건너뜀). 원본
+     * 크기는 헤더에서 읽는다. 알파가 있으면 png, 없으면 jpg 이고, 그 형식의 writer 가 없으면 IOException.
+     */
+    private Meta writeThumbnails(File src, String hash) throws IOException {
+        Dimension size = ImageUtils.readSize(src);
+        int top = Size.VIEWER.px;
+        BufferedImage img = size == null ? null : ImageUtils.readSubsampled(src, null, top, top);
+        if (img == null)
+            return null;
+        Meta m = new Meta(hash, size.width, size.height);
+        dir.mkdirs();
+        BufferedImage cur = img;
+        Size[] sizes = Size.values();
+        for (int i = sizes.length - 1; i >= 0; i--) {
+            cur = shrink(cur, sizes[i].px);
+            if (existingThumb(hash, sizes[i]) != null)
+                continue;
+            String format = cur.getColorModel().hasAlpha() ? "png" : "jpg";
+            File f = thumbFile(hash, sizes[i], format);
+            File tmp = new File(dir, f.getName() + ".tmp");
+            if (!ImageIO.write(cur, format, tmp)) {
+                tmp.delete();
+                throw new IOException("no " + format + " writer for " + src);
+            }
+            if (!tmp.renameTo(f))
+                tmp.delete();
+        }
+        return m;
+    }
+
+    /** 긴 변이 maxSide 이하가 되도록 축소 (작으면 그대로) */
+    private static BufferedImage shrink(BufferedImage src, int maxSide) {
+        double r = (double) maxSide / Math.max(src.getWidth(), src.getHeight());
+        if (r >= 1.0)
+            return src;
+        int w = Math.max(1, (int) Math.round(src.getWidth() * r));
+        int h = Math.max(1, (int) Math.round(src.getHeight() * r));
+        // 파일로 저장하므로 화면 형식이 아닌 고정 형식
+        int type = src.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        return ImageUtils.resize(src, w, h, type);
+    }
+
+    private File thumbFile(String hash, Size s, String format) {
+        return new File(dir, hash + "_" + s.px + "." + format);
+    }
+
+    /** 이미 만들어진 썸네일 (확장자는 png/jpg 중 실제로 있는 쪽). 없으면 null */
+    private File existingThumb(String hash, Size s) {
+        for (String format : new String[] { "png", "jpg" }) {
+            File f = thumbFile(hash, s, format);
+            if (f.isFile())
+                return f;
+        }
+        return null;
+    }
+
+    /** 작업 스레드에서만 호출 */
+    private void saveIndex() {
+        try (OutputStream out = new FileOutputStream(indexFile)) {
+            index.store(out, "thumbnail index: path|length|mtime = sha256,width,height");
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private static String sha256(File f) throws IOException {
+        try (InputStream in = new FileInputStream(f)) {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            byte[] buf = new byte[64 * 1024];
+            int n;
+            while ((n = in.read(buf)) > 0)
+                md.update(buf, 0, n);
+            return HexFormat.of().formatHex(md.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
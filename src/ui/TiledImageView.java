@@ -0,0 +1,411 @@
+package ui;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.swing.*;
+import ui.theme.Theme;
+
+/**
+ * 큰 이미지 줌/패닝용 뷰.
+ * <p>
+ * 원본의 1/2^k 크기 단계 이미지(밉맵 피라미드)를 필요할 때만 만들어 두고, 현재 배율 이상인 단계 중 가장 작은 것에서 뷰포트와
+ * 겹치는 256px 화면 타일만 그린다. 그린 타일은 배율이 바뀔 때까지 캐시하므로 패닝은 타일 복사뿐이다. 필요한 단계가 아직 없으면
+ * 백그라운드에서 만들고(가진 단계를 줄이거나, 파일이면 서브샘플링 디코딩) 그동안은 가진 것 중 가장 가까운 단계로 그린다.
+ * <p>
+ * 파일인데 필요한 단계가 통째로 두기엔 크면(MAX_LEVEL_PIXELS 초과, 예: 50MP 사진의 100%) 단계 이미지를 만들지 않고 뷰포트에
+ * 걸친 512px 원본 타일만 그 단계 배율로 영역 디코딩해서 개수 제한 캐시에 둔다. 그래서 원본 해상도 전체 버퍼는 만들지 않고
+ * 8배 확대도 화면 몇 장 분량의 메모리만 쓴다.
+ */
+public class TiledImageView extends JComponent {
+
+    private static final int TILE = 256;
+    private static final int MAX_TILES = 96; // 화면 타일 캐시 (256x256 x 4B x 96 ≈ 24MB)
+    private static final long MAX_LEVEL_PIXELS = 4_000_000; // 이보다 큰 단계는 통째로 만들지 않고 영역 타일로 읽음
+    private static final int SRC_TILE = 512; // 영역 디코딩 단위 (단계 픽셀 기준)
+    private static final int MAX_SRC_TILES = 32; // 원본 타일 캐시 최소 개수 (512x512 x 4B x 32 ≈ 32MB)
+
+    private static final ExecutorService LOADER = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "image-pyramid-loader");
+        t.setDaemon(true);
+        return t;
+    });
+
+    /** 피라미드 한 단계 (scale = 이미지 가로 / 원본 가로) */
+    private record Level(BufferedImage image, double scale) {
+    }
+
+    // 아래 상태는 모두 EDT 에서만 접근
+    private File file; // 원본 파일 (null 이면 메모리 이미지만)
+    private int fullW, fullH;
+    private final List<Level> levels = new ArrayList<>();
+    private final Set<Integer> pending = new HashSet<>(); // 만드는 중인 단계 k
+    private int generation; // 이미지가 바뀌면 진행 중인 로드 결과를 버리기 위해
+    private String message;
+    private double zoom = 1.0;
+
+    private Object tileSource; // 타일 캐시를 만든 단계 (Level, 영역 타일이면 단계 k)
+    private final Map<Long, BufferedImage> tiles = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, BufferedImage> eldest) {
+            return size() > MAX_TILES;
+        }
+    };
+
+    // 영역 타일: (k, 타일 행, 타일 열) → 그 단계 배율로 디코딩한 원본 일부. 뷰포트가 넓으면 한 화면분의 두 배까지 늘어남
+    private int srcTileCap = MAX_SRC_TILES;
+    private final Map<Long, BufferedImage> srcTiles = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, BufferedImage> eldest) {
+            return size() > srcTileCap;
+        }
+    };
+    private final Map<Long, Future<?>> tileLoads = new HashMap<>(); // 디코딩 중인 영역 타일
+
+    public TiledImageView() {
+        setOpaque(false);
+    }
+
+    /** 메모리 이미지 표시 (원본 해상도 = 이 이미지) */
+    public void setImage(BufferedImage image) {
+        reset(null, image == null ? 0 : image.getWidth(), image == null ? 0 : image.getHeight());
+        if (image != null)
+            levels.add(new Level(image, 1.0));
+    }
+
+    /**
+     * 파일 표시. preview 는 미리 가진 축소본(썸네일 등, null 가능)이고 fullSize 는 원본 픽셀 크기. 더 큰 단계는 배율에 따라
+     * 파일에서 직접 읽는다.
+     */
+    public void setSource(File file, Dimension fullSize, BufferedImage preview) {
+        reset(file, fullSize.width, fullSize.height);
+        if (preview != null)
+            levels.add(new Level(preview, (double) preview.getWidth() / fullW));
+        ensureLevel();
+    }
+
+    /** 이미지 대신 안내 문구 */
+    public void setMessage(String message) {
+        reset(null, 0, 0);
+        this.message = message;
+    }
+
+    public boolean hasImage() {
+        return !levels.isEmpty() || file != null;
+    }
+
+    public int imageWidth() {
+        return fullW;
+    }
+
+    public int imageHeight() {
+        return fullH;
+    }
+
+    public void setZoom(double zoom) {
+        this.zoom = zoom;
+        clearTiles();
+        int k = regionLevel();
+        tileLoads.entrySet().removeIf(en -> {
+            if (en.getKey() >>> 48 == k)
+                return false;
+            en.getValue().cancel(false); // 다른 단계의 대기 중인 디코딩은 필요 없어짐
+            return true;
+        });
+        if (hasImage())
+            ensureLevel();
+        revalidate();
+        repaint();
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        if (!hasImage())
+            return new Dimension(1, 1);
+        return new Dimension(displayWidth(), displayHeight());
+    }
+
+    /* ========== 그리기 ========== */
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        if (!hasImage()) {
+            if (message != null)
+                paintMessage(g);
+            return;
+        }
+        int k = regionLevel();
+        Level src = pickLevel();
+        Object source = k >= 0 ? (Object) k : src;
+        if (!Objects.equals(source, tileSource)) {
+            clearTiles();
+            tileSource = source;
+        }
+        if (k < 0 && src == null)
+            return;
+        if (k >= 0) {
+            // 한 화면에 걸치는 원본 타일 수의 두 배까지는 캐시 (조금 돌아가는 패닝에 다시 디코딩하지 않도록)
+            Rectangle vis = getVisibleRect();
+            double span = (SRC_TILE << k) * zoom; // 원본 타일 한 장의 화면 크기
+            int n = ((int) (vis.width / span) + 2) * ((int) (vis.height / span) + 2);
+            srcTileCap = Math.max(MAX_SRC_TILES, 2 * n);
+        }
+        int dispW = displayWidth(), dispH = displayHeight();
+        // 뷰포트가 이미지보다 크면 가운데 정렬 (JLabel 과 같은 동작)
+        int ox = Math.max(0, (getWidth() - dispW) / 2), oy = Math.max(0, (getHeight() - dispH) / 2);
+
+        Rectangle clip = g.getClipBounds();
+        if (clip == null)
+            clip = new Rectangle(0, 0, getWidth(), getHeight());
+        clip = clip.intersection(new Rectangle(ox, oy, dispW, dispH));
+        if (clip.isEmpty())
+            return;
+        int c0 = (clip.x - ox) / TILE, c1 = (clip.x + clip.width - 1 - ox) / TILE;
+        int r0 = (clip.y - oy) / TILE, r1 = (clip.y + clip.height - 1 - oy) / TILE;
+        for (int row = r0; row <= r1; row++) {
+            for (int col = c0; col <= c1; col++) {
+                BufferedImage t = k >= 0 ? regionTile(k, col, row, dispW, dispH) : tile(src, col, row, dispW, dispH);
+                g.drawImage(t, ox + col * TILE, oy + row * TILE, null);
+            }
+        }
+    }
+
+    private BufferedImage tile(Level src, int col, int row, int dispW, int dispH) {
+        long key = ((long) row << 32) | col;
+        BufferedImage t = tiles.get(key);
+        if (t != null)
+            return t;
+        int x = col * TILE, y = row * TILE;
+        int w = Math.min(TILE, dispW - x), h = Math.min(TILE, dispH - y);
+        t = newTile(w, h, src.image.getColorModel().hasAlpha());
+        Graphics2D g = t.createGraphics();
+        try {
+            // 단계 이미지는 배율의 1~2배라서 bilinear 로 충분 (확대 시에도 화면 타일 크기만큼만 계산)
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.translate(-x, -y);
+            double f = zoom / src.scale;
+            g.scale(f, f);
+            g.drawImage(src.image, 0, 0, null);
+        } finally {
+            g.dispose();
+        }
+        tiles.put(key, t);
+        return t;
+    }
+
+    /**
+     * 영역 타일 단계 k 로 화면 타일을 그린다. 걸친 원본 타일 중 아직 없는 것은 디코딩을 요청하고, 그동안은 가진 단계 중 가장
+     * 큰 것으로 밑그림을 깔아 둔다 (이 화면 타일은 모두 도착할 때까지 캐시하지 않음).
+     */
+    private BufferedImage regionTile(int k, int col, int row, int dispW, int dispH) {
+        long key = ((long) row << 32) | col;
+        BufferedImage t = tiles.get(key);
+        if (t != null)
+            return t;
+        int x = col * TILE, y = row * TILE;
+        int w = Math.min(TILE, dispW - x), h = Math.min(TILE, dispH - y);
+        int span = SRC_TILE << k; // 원본 타일 한 장이 덮는 원본 픽셀
+        int tx0 = (int) (x / zoom) / span, tx1 = (int) Math.min(fullW - 1, (x + w) / zoom) / span;
+        int ty0 = (int) (y / zoom) / span, ty1 = (int) Math.min(fullH - 1, (y + h) / zoom) / span;
+        boolean complete = true;
+        for (int ty = ty0; ty <= ty1; ty++) {
+            for (int tx = tx0; tx <= tx1; tx++)
+                complete &= sourceTile(k, tx, ty) != null;
+        }
+        Level fallback = complete ? null : pickLevel();
+        t = newTile(w, h, fallback == null || fallback.image.getColorModel().hasAlpha());
+        Graphics2D g = t.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.translate(-x, -y);
+            g.scale(zoom, zoom); // 원본 좌표로 그림
+            if (fallback != null)
+                g.drawImage(fallback.image, 0, 0, fullW, fullH, null);
+            for (int ty = ty0; ty <= ty1; ty++) {
+                for (int tx = tx0; tx <= tx1; tx++) {
+                    BufferedImage s = srcTiles.get(srcKey(k, tx, ty));
+                    Rectangle r = srcRegion(k, tx, ty);
+                    if (s != null)
+                        g.drawImage(s, r.x, r.y, r.width, r.height, null);
+                }
+            }
+        } finally {
+            g.dispose();
+        }
+        if (complete)
+            tiles.put(key, t);
+        return t;
+    }
+
+    /** 캐시된 원본 타일. 없으면 디코딩을 요청하고 null (도착하면 다시 그림) */
+    private BufferedImage sourceTile(int k, int tx, int ty) {
+        long key = srcKey(k, tx, ty);
+        BufferedImage s = srcTiles.get(key);
+        if (s != null || tileLoads.containsKey(key))
+            return s;
+        Rectangle region = srcRegion(k, tx, ty);
+        File src = file;
+        int gen = generation;
+        tileLoads.put(key, LOADER.submit(() -> {
+            // 원본의 이 영역만, 단계 배율(1/2^k)로 솎아서 디코딩
+            BufferedImage img = ImageUtils.readSubsampled(src, region, SRC_TILE, SRC_TILE);
+            SwingUtilities.invokeLater(() -> {
+                if (gen != generation)
+                    return;
+                tileLoads.remove(key);
+                if (img != null) {
+                    srcTiles.put(key, img);
+                    repaint();
+                }
+            });
+        }));
+        return null;
+    }
+
+    private static long srcKey(int k, int tx, int ty) {
+        return ((long) k << 48) | ((long) ty << 24) | tx;
+    }
+
+    /** 원본 타일이 덮는 원본 좌표 영역 (가장자리는 이미지 안으로 자름) */
+    private Rectangle srcRegion(int k, int tx, int ty) {
+        int span = SRC_TILE << k;
+        int x = tx * span, y = ty * span;
+        return new Rectangle(x, y, Math.min(span, fullW - x), Math.min(span, fullH - y));
+    }
+
+    private BufferedImage newTile(int w, int h, boolean alpha) {
+        GraphicsConfiguration gc = getGraphicsConfiguration();
+        return gc != null ? gc.createCompatibleImage(w, h, alpha ? Transparency.TRANSLUCENT : Transparency.OPAQUE)
+                : new BufferedImage(w, h, alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+    }
+
+    private void paintMessage(Graphics g) {
+        g.setColor(getForeground());
+        g.setFont(Theme.fontRegular(14));
+        FontMetrics fm = g.getFontMetrics();
+        Rectangle vis = getVisibleRect();
+        int y = vis.y + vis.height / 2 - fm.getHeight() * message.split("\n").length / 2 + fm.getAscent();
+        for (String line : message.split("\n")) {
+            g.drawString(line, vis.x + (vis.width - fm.stringWidth(line)) / 2, y);
+            y += fm.getHeight();
+        }
+    }
+
+    /* ========== 피라미드 ========== */
+
+    /** 배율 이상인 단계 중 가장 작은 것, 없으면 가장 큰 것 (흐리게라도 먼저 보여줌) */
+    private Level pickLevel() {
+        Level best = null, largest = null;
+        for (Level l : levels) {
+            if (l.scale >= zoom && (best == null || l.scale < best.scale))
+                best = l;
+            if (largest == null || l.scale > largest.scale)
+                largest = l;
+        }
+        return best != null ? best : largest;
+    }
+
+    /** 배율 zoom 을 그리기에 알맞은 단계 k (1/2^k >= zoom 인 가장 큰 k) */
+    private static int levelFor(double zoom) {
+        if (zoom >= 1.0)
+            return 0;
+        return (int) Math.floor(Math.log(1.0 / zoom) / Math.log(2));
+    }
+
+    /** 지금 배율의 단계가 통째로 두기엔 크면 그 k (영역 타일로 그림), 아니면 -1 */
+    private int regionLevel() {
+        if (file == null)
+            return -1;
+        int k = levelFor(zoom);
+        double scale = 1.0 / (1 << k);
+        return (double) fullW * scale * fullH * scale > MAX_LEVEL_PIXELS ? k : -1;
+    }
+
+    /** 지금 배율을 2배 이내로 그릴 단계가 없으면 백그라운드에서 만든다 */
+    private void ensureLevel() {
+        if (regionLevel() >= 0)
+            return; // 보이는 영역만 그릴 때 타일 단위로 읽는다
+        Level best = pickLevel();
+        if (best != null && best.scale >= zoom && best.scale < zoom * 2)
+            return; // 충분히 가까움
+        int k = levelFor(zoom);
+        double scale = 1.0 / (1 << k);
+        Level from = null; // scale 이상인 단계 중 가장 작은 것 (있으면 그걸 줄인다)
+        for (Level l : levels) {
+            if (l.scale >= scale * 0.999 && (from == null || l.scale < from.scale))
+                from = l;
+        }
+        if (from == null && file == null)
+            return; // 메모리 이미지보다 큰 단계는 없음
+        if (!pending.add(k))
+            return;
+
+        int w = Math.max(1, (int) Math.round(fullW * scale));
+        int h = Math.max(1, (int) Math.round(fullH * scale));
+        BufferedImage base = from == null ? null : from.image;
+        File src = file;
+        int gen = generation;
+        LOADER.execute(() -> {
+            BufferedImage img;
+            if (base != null) {
+                img = ImageUtils.resize(base, w, h); // 가진 큰 단계를 줄이기
+            } else {
+                img = ImageUtils.load(src.getPath(), w, h); // 공유 캐시 또는 파일에서 필요한 만큼만 디코딩
+                if (img != null && (img.getWidth() != w || img.getHeight() != h))
+                    img = ImageUtils.resize(img, w, h);
+            }
+            BufferedImage result = img;
+            SwingUtilities.invokeLater(() -> {
+                if (gen != generation)
+                    return;
+                pending.remove(k);
+                if (result != null) {
+                    levels.add(new Level(result, (double) result.getWidth() / fullW));
+                    repaint();
+                }
+            });
+        });
+    }
+
+    private int displayWidth() {
+        return Math.max(1, (int) Math.round(fullW * zoom));
+    }
+
+    private int displayHeight() {
+        return Math.max(1, (int) Math.round(fullH * zoom));
+    }
+
+    private void reset(File file, int w, int h) {
+        generation++;
+        this.file = file;
+        this.fullW = w;
+        this.fullH = h;
+        this.message = null;
+        levels.clear();
+        pending.clear();
+        for (Future<?> f : tileLoads.values())
+            f.cancel(false);
+        tileLoads.clear();
+        srcTiles.clear();
+        srcTileCap = MAX_SRC_TILES;
+        clearTiles();
+        tileSource = null;
+        revalidate();
+        repaint();
+    }
+
+    private void clearTiles() {
+        tiles.clear();
+    }
+}